@@ -0,0 +1,94 @@
+package fr.joupi.api.game.listener;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventExecutorBenchmark {
+
+    private BenchmarkListener listener;
+    private BenchmarkEvent event;
+
+    private EventExecutor generated, reflective;
+    private BiConsumer<Object, Object> methodHandle;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        Method method = BenchmarkListener.class.getDeclaredMethod("onEvent", BenchmarkEvent.class);
+        method.setAccessible(true);
+
+        listener = new BenchmarkListener();
+        event = new BenchmarkEvent();
+        generated = GameListenerExecutors.getHandlers(BenchmarkListener.class).get(0).getExecutor();
+        methodHandle = GameListenerExecutors.createInvoker(method, false);
+        reflective = (listener, event) -> {
+            try {
+                if (BenchmarkEvent.class.isAssignableFrom(event.getClass()))
+                    method.invoke(listener, event);
+            } catch (InvocationTargetException exception) {
+                throw new EventException(exception.getCause());
+            } catch (Throwable throwable) {
+                throw new EventException(throwable);
+            }
+        };
+    }
+
+    @Benchmark
+    public int generated() throws EventException {
+        generated.execute(listener, event);
+        return listener.calls;
+    }
+
+    @Benchmark
+    public int methodHandle() {
+        methodHandle.accept(listener, event);
+        return listener.calls;
+    }
+
+    @Benchmark
+    public int reflective() throws EventException {
+        reflective.execute(listener, event);
+        return listener.calls;
+    }
+
+    @Benchmark
+    public int direct() {
+        listener.onEvent(event);
+        return listener.calls;
+    }
+
+    public static class BenchmarkListener implements Listener {
+
+        private int calls;
+
+        @EventHandler
+        public void onEvent(BenchmarkEvent event) {
+            calls++;
+        }
+
+    }
+
+    public static class BenchmarkEvent extends Event {
+
+        private static final HandlerList handlers = new HandlerList();
+
+        @Override
+        public HandlerList getHandlers() {
+            return handlers;
+        }
+
+    }
+
+}
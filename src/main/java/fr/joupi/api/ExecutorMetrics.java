@@ -0,0 +1,145 @@
+package fr.joupi.api;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Getter
+public class ExecutorMetrics {
+
+    public static final String ENGINE = "engine";
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder submitted, completed, failed, rejected;
+    private final LatencyHistogram queueWait, runTime;
+
+    private final ConcurrentMap<String, LatencyHistogram> owners;
+    private final ConcurrentMap<Thread, RunningTask> running;
+
+    public ExecutorMetrics(String name, ThreadPoolExecutor executor) {
+        this.name = name;
+        this.executor = executor;
+        this.submitted = new LongAdder();
+        this.completed = new LongAdder();
+        this.failed = new LongAdder();
+        this.rejected = new LongAdder();
+        this.queueWait = new LatencyHistogram();
+        this.runTime = new LatencyHistogram();
+        this.owners = new ConcurrentHashMap<>();
+        this.running = new ConcurrentHashMap<>();
+    }
+
+    void beforeExecute(Thread thread, Runnable runnable) {
+        long now = System.nanoTime();
+
+        if (runnable instanceof InstrumentedRunnable) {
+            InstrumentedRunnable task = (InstrumentedRunnable) runnable;
+            beforeExecute(thread, task.getName(), task.getOwner(), task.getQueueWait(now), now);
+        } else {
+            beforeExecute(thread, nameOf(runnable), ENGINE, 0, now);
+        }
+    }
+
+    void beforeExecute(Thread thread, String name, String owner, long queueWait, long now) {
+        getQueueWait().record(queueWait);
+        getRunning().put(thread, new RunningTask(name, owner, now));
+    }
+
+    void afterExecute(Runnable runnable, Throwable throwable) {
+        Runnable task = runnable instanceof InstrumentedTask ? ((InstrumentedTask) runnable).getDelegate() : runnable;
+
+        if (throwable == null && task instanceof Future<?> && ((Future<?>) task).isDone())
+            throwable = getFailure((Future<?>) task);
+
+        afterExecute(throwable);
+    }
+
+    private Throwable getFailure(Future<?> future) {
+        try {
+            future.get();
+            return null;
+        } catch (CancellationException exception) {
+            return null;
+        } catch (ExecutionException exception) {
+            return exception.getCause();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void afterExecute(Throwable throwable) {
+        Optional.ofNullable(getRunning().remove(Thread.currentThread())).ifPresent(task -> {
+            long duration = System.nanoTime() - task.getStartedAt();
+            getRunTime().record(duration);
+            getOwners().computeIfAbsent(task.getOwner(), owner -> new LatencyHistogram()).record(duration);
+        });
+
+        if (throwable != null)
+            getFailed().increment();
+        else
+            getCompleted().increment();
+    }
+
+    public int getQueueDepth() {
+        return getExecutor().getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return getExecutor().getActiveCount();
+    }
+
+    public Optional<RunningTask> getLongestRunning() {
+        return getRunning().values().stream().min(Comparator.comparingLong(RunningTask::getStartedAt));
+    }
+
+    public Optional<LatencyHistogram> getOwner(String owner) {
+        return Optional.ofNullable(getOwners().get(owner));
+    }
+
+    public Map<String, LatencyHistogram> getOwnersSnapshot() {
+        return ImmutableMap.copyOf(getOwners());
+    }
+
+    public String dump() {
+        StringBuilder builder = new StringBuilder()
+                .append(String.format("%s active=%d queued=%d submitted=%d completed=%d failed=%d rejected=%d",
+                        getName(), getActiveCount(), getQueueDepth(), getSubmitted().sum(), getCompleted().sum(), getFailed().sum(), getRejected().sum()))
+                .append("\n  wait ").append(getQueueWait())
+                .append("\n  run  ").append(getRunTime());
+
+        getLongestRunning().ifPresent(task -> builder.append(String.format("\n  longest %s (%s) running for %dms",
+                task.getName(), task.getOwner(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - task.getStartedAt()))));
+
+        getOwners().forEach((owner, histogram) -> builder.append("\n  ").append(owner).append(" ").append(histogram));
+        return builder.toString();
+    }
+
+    static String nameOf(Runnable runnable) {
+        return runnable instanceof InstrumentedRunnable ? ((InstrumentedRunnable) runnable).getName() : runnable.getClass().getName();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RunningTask {
+
+        private final String name, owner;
+        private final long startedAt;
+
+    }
+
+}
@@ -0,0 +1,221 @@
+package fr.joupi.api;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+public class HashedWheelTimer {
+
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    @Getter private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    private final Queue<WheelTimeout> timeouts, cancelledTimeouts;
+    private final AtomicLong pendingCount;
+
+    @Getter private volatile long tick;
+    @Getter private volatile boolean running;
+
+    @Getter @Setter private Consumer<List<WheelTimeout>> expiryHandler;
+    private Thread worker;
+
+    public HashedWheelTimer(int wheelSize) {
+        this(0, TimeUnit.NANOSECONDS, wheelSize);
+    }
+
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int wheelSize) {
+        this.tickDuration = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1];
+        this.mask = wheel.length - 1;
+        this.timeouts = new ConcurrentLinkedQueue<>();
+        this.cancelledTimeouts = new ConcurrentLinkedQueue<>();
+        this.pendingCount = new AtomicLong();
+        this.tick = 0;
+
+        for (int i = 0; i < wheel.length; i++)
+            wheel[i] = new Bucket();
+    }
+
+    public synchronized void start(String name) {
+        if (getTickDuration() <= 0)
+            throw new IllegalStateException("Tick based wheel must be advanced by its owner");
+
+        if (isRunning())
+            return;
+
+        running = true;
+        worker = new Thread(this::work, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        Optional.ofNullable(worker).ifPresent(Thread::interrupt);
+    }
+
+    public WheelTimeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (getTickDuration() <= 0)
+            throw new IllegalStateException("Tick based wheel only accepts tick delays");
+
+        long nanos = unit.toNanos(delay);
+        return schedule(task, (nanos + getTickDuration() - 1) / getTickDuration());
+    }
+
+    public WheelTimeout schedule(Runnable task, long ticks) {
+        WheelTimeout timeout = new WheelTimeout(this, task, getTick() + Math.max(1, ticks));
+        pendingCount.incrementAndGet();
+        timeouts.add(timeout);
+        return timeout;
+    }
+
+    void onCancel(WheelTimeout timeout) {
+        cancelledTimeouts.add(timeout);
+    }
+
+    public long getPending() {
+        return pendingCount.get();
+    }
+
+    int[] getBucketSizes() {
+        int[] sizes = new int[wheel.length];
+
+        for (int i = 0; i < wheel.length; i++)
+            sizes[i] = wheel[i].size;
+
+        return sizes;
+    }
+
+    public void advance() {
+        removeCancelled();
+        transferTimeouts();
+
+        long currentTick = tick + 1;
+        List<WheelTimeout> expired = new ArrayList<>();
+
+        wheel[(int) (currentTick & mask)].expire(expired);
+        tick = currentTick;
+
+        pendingCount.addAndGet(-expired.size());
+        expired.forEach(this::run);
+
+        if (!expired.isEmpty())
+            Optional.ofNullable(getExpiryHandler()).ifPresent(handler -> handler.accept(expired));
+    }
+
+    private void run(WheelTimeout timeout) {
+        if (timeout.getTask() == null)
+            return;
+
+        try {
+            timeout.getTask().run();
+        } catch (Exception exception) {
+            Utils.warn(exception, "Timer - timeout failed");
+        }
+    }
+
+    private void transferTimeouts() {
+        WheelTimeout timeout;
+
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK && (timeout = timeouts.poll()) != null; i++) {
+            if (timeout.isCancelled())
+                continue;
+
+            long ticks = Math.max(timeout.getDeadline(), tick + 1);
+            timeout.remainingRounds = (ticks - tick - 1) / wheel.length;
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        WheelTimeout timeout;
+
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null)
+                timeout.bucket.remove(timeout);
+
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    private void work() {
+        long startTime = System.nanoTime();
+
+        while (isRunning()) {
+            long deadline = startTime + (tick + 1) * getTickDuration();
+            long sleep = deadline - System.nanoTime();
+
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+
+            advance();
+        }
+    }
+
+    static class Bucket {
+
+        private WheelTimeout head, tail;
+        private int size;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            size++;
+
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(List<WheelTimeout> expired) {
+            WheelTimeout timeout = head;
+
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.expire()) expired.add(timeout);
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+
+                timeout = next;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            if (timeout.bucket != this)
+                return;
+
+            if (timeout.prev != null) timeout.prev.next = timeout.next;
+            if (timeout.next != null) timeout.next.prev = timeout.prev;
+            if (timeout == head) head = timeout.next;
+            if (timeout == tail) tail = timeout.prev;
+
+            timeout.prev = timeout.next = null;
+            timeout.bucket = null;
+            size--;
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package fr.joupi.api;
+
+import lombok.Getter;
+
+import java.util.concurrent.*;
+
+@Getter
+public class InstrumentedExecutor extends ThreadPoolExecutor {
+
+    private final ExecutorMetrics metrics;
+
+    public InstrumentedExecutor(String name, int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit, BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory);
+        this.metrics = new ExecutorMetrics(name, this);
+        setRejectedExecutionHandler((runnable, executor) -> {
+            getMetrics().getRejected().increment();
+            throw new RejectedExecutionException("Task " + ExecutorMetrics.nameOf(runnable) + " rejected from " + name);
+        });
+    }
+
+    public void execute(Runnable runnable, String owner) {
+        execute(new InstrumentedTask(runnable, owner));
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        getMetrics().getSubmitted().increment();
+        super.execute(runnable instanceof InstrumentedRunnable ? runnable : new InstrumentedTask(runnable, ExecutorMetrics.ENGINE));
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable runnable) {
+        getMetrics().beforeExecute(thread, runnable);
+    }
+
+    @Override
+    protected void afterExecute(Runnable runnable, Throwable throwable) {
+        getMetrics().afterExecute(runnable, throwable);
+    }
+
+}
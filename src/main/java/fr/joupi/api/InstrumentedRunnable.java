@@ -0,0 +1,11 @@
+package fr.joupi.api;
+
+interface InstrumentedRunnable extends Runnable {
+
+    String getName();
+
+    String getOwner();
+
+    long getQueueWait(long now);
+
+}
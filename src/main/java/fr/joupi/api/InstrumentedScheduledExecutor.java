@@ -0,0 +1,62 @@
+package fr.joupi.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.*;
+
+@Getter
+public class InstrumentedScheduledExecutor extends ScheduledThreadPoolExecutor {
+
+    private final ExecutorMetrics metrics;
+    private final Map<Runnable, TaskInfo> tasks;
+
+    public InstrumentedScheduledExecutor(String name, int corePoolSize, ThreadFactory threadFactory) {
+        super(corePoolSize, threadFactory);
+        this.metrics = new ExecutorMetrics(name, this);
+        this.tasks = Collections.synchronizedMap(new WeakHashMap<>());
+        setRejectedExecutionHandler((runnable, executor) -> {
+            getMetrics().getRejected().increment();
+            throw new RejectedExecutionException("Task " + ExecutorMetrics.nameOf(runnable) + " rejected from " + name);
+        });
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+        getMetrics().getSubmitted().increment();
+        getTasks().put(task, new TaskInfo(ExecutorMetrics.nameOf(runnable), runnable instanceof InstrumentedRunnable ? ((InstrumentedRunnable) runnable).getOwner() : ExecutorMetrics.ENGINE));
+        return task;
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task) {
+        getMetrics().getSubmitted().increment();
+        getTasks().put(task, new TaskInfo(callable.getClass().getName(), ExecutorMetrics.ENGINE));
+        return task;
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable runnable) {
+        TaskInfo info = Optional.ofNullable(getTasks().get(runnable)).orElseGet(() -> new TaskInfo(ExecutorMetrics.nameOf(runnable), ExecutorMetrics.ENGINE));
+        long queueWait = runnable instanceof Delayed ? Math.max(0, -((Delayed) runnable).getDelay(TimeUnit.NANOSECONDS)) : 0;
+        getMetrics().beforeExecute(thread, info.getName(), info.getOwner(), queueWait, System.nanoTime());
+    }
+
+    @Override
+    protected void afterExecute(Runnable runnable, Throwable throwable) {
+        getMetrics().afterExecute(runnable, throwable);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class TaskInfo {
+
+        private final String name, owner;
+
+    }
+
+}
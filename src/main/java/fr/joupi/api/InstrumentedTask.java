@@ -0,0 +1,33 @@
+package fr.joupi.api;
+
+import lombok.Getter;
+
+@Getter
+public class InstrumentedTask implements InstrumentedRunnable {
+
+    private final Runnable delegate;
+    private final String name, owner;
+    private final long enqueuedAt;
+
+    public InstrumentedTask(Runnable delegate, String owner) {
+        this(delegate, ExecutorMetrics.nameOf(delegate), owner);
+    }
+
+    public InstrumentedTask(Runnable delegate, String name, String owner) {
+        this.delegate = delegate;
+        this.name = name;
+        this.owner = owner;
+        this.enqueuedAt = System.nanoTime();
+    }
+
+    @Override
+    public long getQueueWait(long now) {
+        return now - getEnqueuedAt();
+    }
+
+    @Override
+    public void run() {
+        getDelegate().run();
+    }
+
+}
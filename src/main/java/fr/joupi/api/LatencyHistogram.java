@@ -0,0 +1,71 @@
+package fr.joupi.api;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+@Getter
+public class LatencyHistogram {
+
+    private final LongAdder[] buckets;
+    private final LongAdder count, sum;
+    private final LongAccumulator max;
+
+    public LatencyHistogram() {
+        this.buckets = new LongAdder[64];
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0);
+
+        for (int i = 0; i < buckets.length; i++)
+            buckets[i] = new LongAdder();
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[63 - Long.numberOfLeadingZeros(value | 1)].increment();
+        getCount().increment();
+        getSum().add(value);
+        getMax().accumulate(value);
+    }
+
+    public long getCountValue() {
+        return getCount().sum();
+    }
+
+    public long getMean() {
+        long count = getCountValue();
+        return count == 0 ? 0 : getSum().sum() / count;
+    }
+
+    public long getMaxValue() {
+        return getMax().get();
+    }
+
+    public long getPercentile(double percentile) {
+        long target = (long) Math.ceil(getCountValue() * percentile);
+        long seen = 0;
+
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i].sum();
+
+            if (seen >= target && seen > 0)
+                return Math.min(getMaxValue(), (1L << (i + 1)) - 1);
+        }
+
+        return getMaxValue();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.2fms p50=%.2fms p99=%.2fms max=%.2fms",
+                getCountValue(), toMillis(getMean()), toMillis(getPercentile(0.5)), toMillis(getPercentile(0.99)), toMillis(getMaxValue()));
+    }
+
+    private double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
@@ -0,0 +1,58 @@
+package fr.joupi.api;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+public class MainThreadExecutor implements Executor {
+
+    private final Queue<Runnable> queue;
+    private final AtomicInteger pending;
+
+    @Setter
+    private long budget;
+    private int lastDrained;
+
+    public MainThreadExecutor() {
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.pending = new AtomicInteger(0);
+        this.budget = TimeUnit.MILLISECONDS.toNanos(2);
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        getQueue().add(runnable);
+        getPending().incrementAndGet();
+    }
+
+    public int drain() {
+        long deadline = System.nanoTime() + getBudget();
+        int drained = 0;
+        Runnable runnable;
+
+        while ((drained == 0 || System.nanoTime() < deadline) && (runnable = getQueue().poll()) != null) {
+            getPending().decrementAndGet();
+            drained++;
+
+            try {
+                runnable.run();
+            } catch (Exception exception) {
+                Utils.warn(exception, "MainThread - task failed");
+            }
+        }
+
+        lastDrained = drained;
+        return drained;
+    }
+
+    public int getPendingCount() {
+        return getPending().get();
+    }
+
+}
@@ -1,18 +1,39 @@
 package fr.joupi.api;
 
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
 import lombok.experimental.UtilityClass;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @UtilityClass
 public class MultiThreading {
 
     private final AtomicInteger counter = new AtomicInteger(0);
 
-    public final ExecutorService pool = Executors.newFixedThreadPool(10, runnable -> new Thread(runnable, String.format("Thread %s", counter.incrementAndGet())));
+    public final InstrumentedExecutor pool = new InstrumentedExecutor("pool", 10, 10, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Thread %s", counter.incrementAndGet())));
 
-    public final ScheduledExecutorService runnablePool = Executors.newScheduledThreadPool(5, runnable -> new Thread(runnable, String.format("Thread %s", counter.incrementAndGet())));
+    public final InstrumentedScheduledExecutor runnablePool = new InstrumentedScheduledExecutor("scheduler", 5, runnable -> new Thread(runnable, String.format("Thread %s", counter.incrementAndGet())));
+
+    public final MainThreadExecutor mainThread = new MainThreadExecutor();
+
+    private final boolean virtualThreadsAvailable = checkVirtualThreadsAvailable();
+
+    private volatile ExecutorService virtualPool;
+
+    private final InstrumentedExecutor blockingPool = createBlockingPool(Integer.getInteger("skyly.blockingThreads", 32));
+
+    @Getter
+    private volatile boolean virtualThreads = checkVirtualThreads(Boolean.getBoolean("skyly.virtualThreads"));
 
     public ScheduledFuture<?> schedule(Runnable r, long initialDelay, long delay, TimeUnit unit) {
         return runnablePool.scheduleAtFixedRate(r, initialDelay, delay, unit);
@@ -26,13 +47,155 @@ public class MultiThreading {
         pool.execute(runnable);
     }
 
+    public void runAsync(String owner, Runnable runnable) {
+        pool.execute(runnable, owner);
+    }
+
+    public CompletableFuture<Void> onMain(Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, mainThread);
+    }
+
+    public <T> CompletableFuture<T> supplyOnMain(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, mainThread);
+    }
+
+    public <T> CompletableFuture<Void> thenOnMain(CompletionStage<T> stage, Consumer<T> consumer) {
+        return stage.thenAcceptAsync(consumer, mainThread).toCompletableFuture();
+    }
+
+    public <T, R> CompletableFuture<R> thenApplyOnMain(CompletionStage<T> stage, Function<T, R> function) {
+        return stage.thenApplyAsync(function, mainThread).toCompletableFuture();
+    }
+
+    public void setMainThreadBudget(long budget, TimeUnit unit) {
+        mainThread.setBudget(unit.toNanos(budget));
+    }
+
+    public boolean isVirtualThreadsAvailable() {
+        return virtualThreadsAvailable;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        MultiThreading.virtualThreads = checkVirtualThreads(virtualThreads);
+    }
+
+    public ExecutorService getBlockingExecutor() {
+        return isVirtualThreads() && isVirtualThreadsAvailable() ? Optional.ofNullable(getVirtualPool()).orElse(blockingPool) : blockingPool;
+    }
+
+    public CompletableFuture<Void> runBlocking(Runnable runnable) {
+        return CompletableFuture.runAsync(runnable, getBlockingExecutor());
+    }
+
+    public <T> CompletableFuture<T> supplyBlocking(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, getBlockingExecutor());
+    }
+
+    public <T, R> CompletableFuture<List<R>> fanOut(Collection<T> inputs, Function<T, R> function) {
+        ExecutorService executor = getBlockingExecutor();
+        CompletableFuture<List<R>> scope = new CompletableFuture<>();
+        List<CompletableFuture<R>> results = new ArrayList<>(inputs.size());
+        List<Future<?>> tasks = new ArrayList<>(inputs.size());
+
+        inputs.forEach(input -> {
+            CompletableFuture<R> result = new CompletableFuture<>();
+            results.add(result);
+            tasks.add(executor.submit(() -> {
+                try {
+                    result.complete(function.apply(input));
+                } catch (Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+            }));
+        });
+
+        results.forEach(result -> result.whenComplete((value, throwable) -> {
+            if (throwable != null && scope.completeExceptionally(throwable))
+                tasks.forEach(task -> task.cancel(true));
+        }));
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                .thenRun(() -> scope.complete(results.stream().map(CompletableFuture::join).collect(Collectors.toList())));
+
+        scope.whenComplete((value, throwable) -> {
+            if (scope.isCancelled())
+                tasks.forEach(task -> task.cancel(true));
+        });
+
+        return scope;
+    }
+
     public int getTotal() {
-        return Integer.sum(((ThreadPoolExecutor) pool).getActiveCount(), ((ThreadPoolExecutor) runnablePool).getActiveCount());
+        return getMetrics().stream().mapToInt(ExecutorMetrics::getActiveCount).sum();
+    }
+
+    public List<ExecutorMetrics> getMetrics() {
+        return ImmutableList.of(pool.getMetrics(), runnablePool.getMetrics(), blockingPool.getMetrics());
+    }
+
+    public Optional<ExecutorMetrics> getMetrics(String name) {
+        return getMetrics().stream().filter(metrics -> metrics.getName().equals(name)).findFirst();
+    }
+
+    public String dumpMetrics() {
+        return getMetrics().stream().map(ExecutorMetrics::dump).collect(Collectors.joining("\n"));
+    }
+
+    public ScheduledFuture<?> scheduleMetricsDump(long period, TimeUnit unit, Consumer<String> sink) {
+        return schedule(() -> sink.accept(dumpMetrics()), period, period, unit);
     }
 
     public void stopTask() {
         pool.shutdown();
         runnablePool.shutdown();
+        blockingPool.shutdown();
+        Optional.ofNullable(virtualPool).ifPresent(ExecutorService::shutdown);
+    }
+
+    private InstrumentedExecutor createBlockingPool(int threads) {
+        InstrumentedExecutor executor = new InstrumentedExecutor("blocking", threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, String.format("Blocking Thread %s", counter.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private boolean checkVirtualThreads(boolean virtualThreads) {
+        if (virtualThreads && !isVirtualThreadsAvailable())
+            Utils.warn("MultiThreading - virtual threads are not available on this JVM, blocking work runs on the {0} thread blocking pool", blockingPool.getMaximumPoolSize());
+
+        return virtualThreads;
+    }
+
+    private ExecutorService getVirtualPool() {
+        if (virtualPool == null) {
+            synchronized (MultiThreading.class) {
+                if (virtualPool == null)
+                    virtualPool = createVirtualPool();
+            }
+        }
+
+        return virtualPool;
+    }
+
+    private boolean checkVirtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    private ExecutorService createVirtualPool() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            return null;
+        }
     }
 
-}
\ No newline at end of file
+}
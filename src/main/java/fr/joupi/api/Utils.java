@@ -9,6 +9,8 @@ import lombok.experimental.UtilityClass;
 import java.text.MessageFormat;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 @UtilityClass
 public class Utils {
@@ -22,10 +24,20 @@ public class Utils {
         if (optional.isEmpty()) runnable.run();
     }
 
+    private final Logger logger = Logger.getLogger("GameEngine");
+
     public void debug(String message, Object ... arguments) {
         System.out.println("[GameEngine] " + MessageFormat.format(message, arguments));
     }
 
+    public void warn(String message, Object ... arguments) {
+        warn(null, message, arguments);
+    }
+
+    public void warn(Throwable throwable, String message, Object ... arguments) {
+        logger.log(Level.WARNING, "[GameEngine] " + MessageFormat.format(message, arguments), throwable);
+    }
+
     public Gson getGson() {
         return new GsonBuilder().setPrettyPrinting().excludeFieldsWithoutExposeAnnotation().disableHtmlEscaping().create();
     }
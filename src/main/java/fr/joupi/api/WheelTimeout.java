@@ -0,0 +1,49 @@
+package fr.joupi.api;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WheelTimeout {
+
+    private static final int INIT = 0, CANCELLED = 1, EXPIRED = 2;
+
+    @Getter private final HashedWheelTimer timer;
+    @Getter private final Runnable task;
+    @Getter private final long deadline;
+
+    private final AtomicInteger state;
+
+    @Getter(AccessLevel.PACKAGE) long remainingRounds;
+    WheelTimeout next, prev;
+    HashedWheelTimer.Bucket bucket;
+
+    WheelTimeout(HashedWheelTimer timer, Runnable task, long deadline) {
+        this.timer = timer;
+        this.task = task;
+        this.deadline = deadline;
+        this.state = new AtomicInteger(INIT);
+    }
+
+    public boolean cancel() {
+        if (!state.compareAndSet(INIT, CANCELLED))
+            return false;
+
+        getTimer().onCancel(this);
+        return true;
+    }
+
+    boolean expire() {
+        return state.compareAndSet(INIT, EXPIRED);
+    }
+
+    public boolean isCancelled() {
+        return state.get() == CANCELLED;
+    }
+
+    public boolean isExpired() {
+        return state.get() == EXPIRED;
+    }
+
+}
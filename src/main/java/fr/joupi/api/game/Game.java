@@ -1,16 +1,22 @@
 package fr.joupi.api.game;
 
+import fr.joupi.api.MultiThreading;
 import fr.joupi.api.game.entity.GameEntityManager;
+import fr.joupi.api.game.event.GameEventBus;
 import fr.joupi.api.game.event.GameLoadEvent;
 import fr.joupi.api.game.event.GamePlayerJoinEvent;
 import fr.joupi.api.game.event.GamePlayerLeaveEvent;
 import fr.joupi.api.game.event.GameUnloadEvent;
 import fr.joupi.api.game.host.GameHost;
 import fr.joupi.api.game.host.GameHostState;
+import fr.joupi.api.game.listener.GameListenerExecutors;
 import fr.joupi.api.game.listener.GameListenerWrapper;
 import fr.joupi.api.game.phase.PhaseManager;
+import fr.joupi.api.game.spatial.GameSpatialIndex;
 import fr.joupi.api.game.team.GameTeam;
+import fr.joupi.api.game.team.GameTeamAllocator;
 import fr.joupi.api.game.team.GameTeamColor;
+import fr.joupi.api.game.utils.GameTicker;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang.RandomStringUtils;
@@ -27,9 +33,11 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Getter
 @Setter
@@ -42,12 +50,18 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
 
     private final PhaseManager<?> phaseManager;
     private final GameEntityManager gameEntityManager;
+    private final GameSpatialIndex spatialIndex;
     private GameHost<?> gameHost;
+    private GameManager gameManager;
 
     private final List<GameListenerWrapper<?>> listeners;
     private final List<T> teams;
+    private final GameTeamAllocator<T> teamAllocator;
+    private final GameEventBus eventBus;
     private final List<BukkitTask> tasks;
     private final ConcurrentMap<UUID, G> players;
+    private final ConcurrentMap<UUID, T> playerTeams;
+    private final AtomicInteger aliveCounter, spectatorCounter;
 
     private GameState state;
 
@@ -57,12 +71,19 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
         this.id = RandomStringUtils.randomAlphanumeric(10);
         this.settings = settings;
         this.phaseManager = new PhaseManager<>(this);
-        this.gameEntityManager = new GameEntityManager(plugin);
         this.listeners = new ArrayList<>();
         this.teams = new ArrayList<>();
+        this.teamAllocator = new GameTeamAllocator<>(this);
+        this.eventBus = new GameEventBus();
+        this.gameEntityManager = new GameEntityManager(this);
+        this.spatialIndex = new GameSpatialIndex(this);
         this.tasks = new ArrayList<>();
         this.players = new ConcurrentHashMap<>();
+        this.playerTeams = new ConcurrentHashMap<>();
+        this.aliveCounter = new AtomicInteger();
+        this.spectatorCounter = new AtomicInteger();
         this.state = GameState.WAIT;
+        GameTicker.start(plugin);
         load();
     }
 
@@ -71,18 +92,35 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
     public abstract T defaultGameTeam(GameTeamColor color);
 
     private void load() {
-        getTeams().addAll(Arrays.stream(GameTeamColor.values()).limit(getSettings().getGameSize().getTeamNeeded()).map(this::defaultGameTeam).collect(Collectors.toList()));
-        Bukkit.getPluginManager().registerEvents(this, getPlugin());
+        GameTeamColor[] colors = GameTeamColor.values();
+        getTeams().addAll(IntStream.range(0, getSettings().getGameSize().getTeamNeeded()).mapToObj(i -> defaultGameTeam(colors[i % colors.length])).collect(Collectors.toList()));
+        getTeams().forEach(this::bindTeam);
+        GameListenerExecutors.registerEvents(this, getPlugin());
+        getSpatialIndex().indexLocations();
         debug("{0} loaded", getFullName());
-        Bukkit.getPluginManager().callEvent(new GameLoadEvent(this));
+        getEventBus().post(new GameLoadEvent(this));
     }
 
     public void unload() {
         getPhaseManager().unregisterPhases();
+        GameTicker.unregister(this);
         getListeners().forEach(HandlerList::unregisterAll);
         HandlerList.unregisterAll(this);
         debug("{0} unloaded", getFullName());
-        Bukkit.getPluginManager().callEvent(new GameUnloadEvent(this));
+        getEventBus().post(new GameUnloadEvent(this));
+        getEventBus().clear();
+    }
+
+    public void setState(GameState state) {
+        GameState previous = this.state;
+        this.state = state;
+        ifManaged(gameManager -> gameManager.onStateChange(this, previous));
+    }
+
+    public void setGameHost(GameHost<?> gameHost) {
+        ifManaged(gameManager -> ifHostedGame(host -> gameManager.unindexHost(host.getHostUuid(), this)));
+        this.gameHost = gameHost;
+        ifManaged(gameManager -> ifHostedGame(host -> gameManager.indexHost(host.getHostUuid(), this)));
     }
 
     public void registerListeners(GameListenerWrapper<?>... listeners) {
@@ -91,7 +129,7 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
     }
 
     public void registerListener(GameListenerWrapper<?> listener) {
-        Bukkit.getPluginManager().registerEvents(listener, getPlugin());
+        GameListenerExecutors.registerEvents(listener, getPlugin());
         getListeners().add(listener);
     }
 
@@ -124,21 +162,18 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
     }
 
     public Optional<T> getTeam(GamePlayer gamePlayer) {
-        return getTeams().stream().filter(gameTeam -> gameTeam.isMember(gamePlayer)).findFirst();
+        return getTeam(gamePlayer.getUuid());
     }
 
-    public Optional<T> getRandomTeam() {
-        return getReachableTeams().stream().skip(getReachableTeams().isEmpty() ? 0 : ThreadLocalRandom.current().nextInt(getReachableTeams().size())).findFirst();
+    public Optional<T> getTeam(UUID uuid) {
+        return Optional.ofNullable(getPlayerTeams().get(uuid));
     }
 
-    private Optional<T> getTeamWithLeastPlayers() {
-        return getTeams().stream()
-                .filter(team -> team.getSize() < getSettings().getGameSize().getTeamMaxPlayer())
-                .min(Comparator.comparingInt(GameTeam::getSize));
+    public Optional<T> getRandomTeam() {
+        return getReachableTeams().stream().skip(getReachableTeams().isEmpty() ? 0 : ThreadLocalRandom.current().nextInt(getReachableTeams().size())).findFirst();
     }
 
     public void addPlayerToTeam(GamePlayer gamePlayer, GameTeam gameTeam) {
-        removePlayerToTeam(gamePlayer);
         gameTeam.addMember(gamePlayer);
     }
 
@@ -146,8 +181,16 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
         getTeam(gamePlayer).ifPresent(team -> team.removeMember(gamePlayer));
     }
 
+    private void bindTeam(T gameTeam) {
+        gameTeam.bindIndex(
+                gamePlayer -> Optional.ofNullable(getPlayerTeams().put(gamePlayer.getUuid(), gameTeam))
+                        .filter(previous -> previous != gameTeam)
+                        .ifPresent(previous -> previous.removeMember(gamePlayer)),
+                gamePlayer -> getPlayerTeams().remove(gamePlayer.getUuid(), gameTeam));
+    }
+
     public void fillTeam() {
-        getPlayersWithoutTeam().forEach(gamePlayer -> getTeamWithLeastPlayers().ifPresent(gameTeam -> gameTeam.addMember(gamePlayer)));
+        getTeamAllocator().allocate();
     }
 
     public Optional<G> getPlayer(UUID uuid) {
@@ -214,16 +257,22 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
     public void joinGame(Player player, boolean spectator) {
         if (!getPlayers().containsKey(player.getUniqueId())) {
             G gamePlayer = defaultGamePlayer(player.getUniqueId(), spectator);
+            gamePlayer.setGame(this);
             getPlayers().put(player.getUniqueId(), gamePlayer);
-            Bukkit.getServer().getPluginManager().callEvent(new GamePlayerJoinEvent<>(this, gamePlayer));
+            getCounter(gamePlayer).incrementAndGet();
+            ifManaged(gameManager -> gameManager.onPlayerJoin(this, gamePlayer));
+            getEventBus().post(new GamePlayerJoinEvent<>(this, gamePlayer));
             debug("{0} {1} {2} game", player.getName(), (gamePlayer.isSpectator() ? "spectate" : "join"), getFullName());
         }
     }
 
     public void leaveGame(UUID uuid) {
         getPlayer(uuid).ifPresent(gamePlayer -> {
-            Bukkit.getServer().getPluginManager().callEvent(new GamePlayerLeaveEvent<>(this, gamePlayer));
+            getEventBus().post(new GamePlayerLeaveEvent<>(this, gamePlayer));
             getPlayers().remove(uuid);
+            getCounter(gamePlayer).decrementAndGet();
+            gamePlayer.setGame(null);
+            ifManaged(gameManager -> gameManager.onPlayerLeave(this, gamePlayer));
             removePlayerToTeam(gamePlayer);
             debug("{0} leave {1}", gamePlayer.getPlayer().getName(), getFullName());
         });
@@ -236,6 +285,21 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
         debug("END OF GAME : {0}", getFullName());
     }
 
+    void updateSpectator(GamePlayer gamePlayer) {
+        getCounter(gamePlayer).incrementAndGet();
+        (gamePlayer.isSpectator() ? getAliveCounter() : getSpectatorCounter()).decrementAndGet();
+        getTeam(gamePlayer).ifPresent(team -> team.updateSpectator(gamePlayer));
+        ifManaged(gameManager -> gameManager.onSpectatorChange(this, gamePlayer));
+    }
+
+    private AtomicInteger getCounter(GamePlayer gamePlayer) {
+        return gamePlayer.isSpectator() ? getSpectatorCounter() : getAliveCounter();
+    }
+
+    private void ifManaged(Consumer<GameManager> consumer) {
+        Optional.ofNullable(getGameManager()).ifPresent(consumer);
+    }
+
     private void broadcast(String message) {
         getPlayers().values().forEach(gamePlayer -> gamePlayer.sendMessage(message));
     }
@@ -249,6 +313,10 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
                 .forEach(gamePlayer -> gamePlayer.sendMessage(messages));
     }
 
+    public void runAsync(Runnable runnable) {
+        MultiThreading.runAsync(getFullName(), runnable);
+    }
+
     public void debug(String message, Object ... arguments) {
         System.out.println("[GameEngine] " + MessageFormat.format(message, arguments));
     }
@@ -258,7 +326,7 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
     }
 
     private Predicate<GameTeam> isNoPlayersAlivePredicate() {
-        return gameTeam -> gameTeam.getAlivePlayers().isEmpty();
+        return GameTeam::isNoPlayersAlive;
     }
 
     private Predicate<GamePlayer> isSpectatorPredicate() {
@@ -266,7 +334,7 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
     }
 
     private Predicate<GamePlayer> haveTeamPredicate() {
-        return gamePlayer -> getTeam(gamePlayer).isPresent();
+        return gamePlayer -> getPlayerTeams().containsKey(gamePlayer.getUuid());
     }
 
     public boolean isGameHost() {
@@ -274,7 +342,7 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
     }
 
     public boolean haveTeam(G gamePlayer) {
-        return getTeam(gamePlayer).isPresent();
+        return getPlayerTeams().containsKey(gamePlayer.getUuid());
     }
 
     public boolean containsPlayer(UUID uuid) {
@@ -301,16 +369,25 @@ public abstract class Game<G extends GamePlayer, T extends GameTeam, S extends G
         return getAlivePlayersCount() < getSettings().getGameSize().getMaxPlayer();
     }
 
+    public int getFreeSlots() {
+        return Math.max(0, getSettings().getGameSize().getMaxPlayer() - getAlivePlayersCount());
+    }
+
     public int getAliveTeamsCount() {
-        return getAliveTeams().size();
+        int count = 0;
+
+        for (T team : getTeams())
+            if (!team.isNoPlayersAlive()) count++;
+
+        return count;
     }
 
     public int getAlivePlayersCount() {
-        return getAlivePlayers().size();
+        return getAliveCounter().get();
     }
 
     public int getSpectatorsCount() {
-        return getSpectators().size();
+        return getSpectatorCounter().get();
     }
 
     public int getTeamsCount() {
@@ -0,0 +1,65 @@
+package fr.joupi.api.game;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+@Getter
+public class GameCounters {
+
+    private final LongAdder players, alivePlayers, spectators, games;
+    private final Map<GameState, LongAdder> states;
+
+    public GameCounters() {
+        this.players = new LongAdder();
+        this.alivePlayers = new LongAdder();
+        this.spectators = new LongAdder();
+        this.games = new LongAdder();
+        this.states = new EnumMap<>(GameState.class);
+        Arrays.stream(GameState.values()).forEach(state -> getStates().put(state, new LongAdder()));
+    }
+
+    public void addPlayer(boolean spectator, int delta) {
+        getPlayers().add(delta);
+        (spectator ? getSpectators() : getAlivePlayers()).add(delta);
+    }
+
+    public void moveSpectator(boolean spectator) {
+        getAlivePlayers().add(spectator ? -1 : 1);
+        getSpectators().add(spectator ? 1 : -1);
+    }
+
+    public void addGame(GameState state, int delta) {
+        getGames().add(delta);
+        getStates().get(state).add(delta);
+    }
+
+    public void moveState(GameState previous, GameState state) {
+        getStates().get(previous).decrement();
+        getStates().get(state).increment();
+    }
+
+    public int getPlayersCount() {
+        return getPlayers().intValue();
+    }
+
+    public int getAlivePlayersCount() {
+        return getAlivePlayers().intValue();
+    }
+
+    public int getSpectatorsCount() {
+        return getSpectators().intValue();
+    }
+
+    public int getGamesCount() {
+        return getGames().intValue();
+    }
+
+    public int getGamesCount(GameState state) {
+        return getStates().get(state).intValue();
+    }
+
+}
@@ -1,10 +1,17 @@
 package fr.joupi.api.game;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableList;
 import fr.joupi.api.Utils;
 import fr.joupi.api.game.host.GameHostState;
+import fr.joupi.api.game.listener.GameEventDispatcher;
+import fr.joupi.api.game.matchmaking.GameMatchmakingIndex;
+import fr.joupi.api.game.matchmaking.GameSlot;
+import fr.joupi.api.game.matchmaking.MatchmakingEngine;
+import fr.joupi.api.game.matchmaking.MatchmakingPolicy;
 import fr.joupi.api.game.party.GameParty;
 import fr.joupi.api.game.party.GamePartyManager;
+import fr.joupi.api.game.pool.GamePool;
+import fr.joupi.api.game.utils.GameTicker;
 import lombok.Getter;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
@@ -13,6 +20,7 @@ import org.bukkit.plugin.java.JavaPlugin;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -23,20 +31,35 @@ public class GameManager {
     private final JavaPlugin plugin;
 
     private final GamePartyManager partyManager;
-    private final ConcurrentMap<String, List<Game>> games;
+    private final GameRegistry registry;
+    private final ConcurrentMap<UUID, Game> playerGames;
+    private final ConcurrentMap<UUID, List<Game>> hostGames;
+    private final ConcurrentMap<String, GameCounters> counters;
+    private final GameCounters globalCounters;
+    private final GameMatchmakingIndex matchmakingIndex;
+    private final MatchmakingEngine matchmakingEngine;
+    private final GamePool gamePool;
+    private final GameEventDispatcher eventDispatcher;
 
     public GameManager(JavaPlugin plugin) {
         this.plugin = plugin;
+        GameTicker.start(plugin);
         this.partyManager = new GamePartyManager(this);
-        this.games = new ConcurrentHashMap<>();
+        this.registry = new GameRegistry();
+        this.playerGames = new ConcurrentHashMap<>();
+        this.hostGames = new ConcurrentHashMap<>();
+        this.counters = new ConcurrentHashMap<>();
+        this.globalCounters = new GameCounters();
+        this.matchmakingIndex = new GameMatchmakingIndex();
+        this.matchmakingEngine = new MatchmakingEngine(this);
+        this.matchmakingEngine.start();
+        this.gamePool = new GamePool(this);
+        this.gamePool.start();
+        this.eventDispatcher = new GameEventDispatcher(this);
     }
 
     public void findGame(Player player, String gameName) {
-        if (Optional.ofNullable(getGames(gameName)).isPresent()) {
-            Utils.ifPresentOrElse(getBestGame(gameName),
-                    game -> joinGame(game, player),
-                    () -> Utils.debug("NO GAME AVAILABLE, A NEW GAME IS STARTING FOR PLAYER {0}", player.getName()));
-        }
+        getMatchmakingEngine().submit(player, gameName);
     }
 
     public void joinGameWithParty(Player leader) {
@@ -62,93 +85,174 @@ public class GameManager {
     }
 
     public void leaveGame(Player player) {
+        getMatchmakingEngine().cancel(player.getUniqueId());
         getGame(player, game -> game.leaveGame(player.getUniqueId()));
     }
 
     public void addGame(String gameName, Game game) {
-        getGames().computeIfAbsent(gameName, k -> Lists.newArrayList()).add(game);
+        if (getRegistry().snapshot().getGameName(game).isPresent())
+            return;
+
+        getRegistry().add(gameName, game);
+        Optional.ofNullable(game.getGameHost()).ifPresent(host -> indexHost(host.getHostUuid(), game));
+        game.setGameManager(this);
+        game.getPlayers().keySet().forEach(uuid -> indexPlayer((UUID) uuid, game));
+        updateCounters(game, 1);
+        updateMatchmaking(game);
         Utils.debug("ADD GAME {0}", game.getFullName());
     }
 
     public void removeGame(Game game) {
-        getGames().values().forEach(games -> games.remove(game));
+        if (getRegistry().snapshot().getGameName(game).isEmpty())
+            return;
+
+        updateCounters(game, -1);
+        getRegistry().remove(game);
+        getMatchmakingIndex().remove(game);
+        Optional.ofNullable(game.getGameHost()).ifPresent(host -> unindexHost(host.getHostUuid(), game));
+        game.getPlayers().keySet().forEach(uuid -> unindexPlayer((UUID) uuid, game));
+        game.setGameManager(null);
         Utils.debug("REMOVE GAME {0}", game.getFullName());
     }
 
+    public void onPlayerJoin(Game game, GamePlayer gamePlayer) {
+        indexPlayer(gamePlayer.getUuid(), game);
+        forCounters(game, counters -> counters.addPlayer(gamePlayer.isSpectator(), 1));
+        updateMatchmaking(game);
+    }
+
+    public void onPlayerLeave(Game game, GamePlayer gamePlayer) {
+        unindexPlayer(gamePlayer.getUuid(), game);
+        forCounters(game, counters -> counters.addPlayer(gamePlayer.isSpectator(), -1));
+        updateMatchmaking(game);
+    }
+
+    public void onSpectatorChange(Game game, GamePlayer gamePlayer) {
+        forCounters(game, counters -> counters.moveSpectator(gamePlayer.isSpectator()));
+        updateMatchmaking(game);
+    }
+
+    public void onStateChange(Game game, GameState previous) {
+        forCounters(game, counters -> counters.moveState(previous, game.getState()));
+        updateMatchmaking(game);
+    }
+
+    private void updateCounters(Game<?, ?, ?> game, int delta) {
+        forCounters(game, counters -> {
+            counters.addGame(game.getState(), delta);
+            game.getPlayers().values().forEach(gamePlayer -> counters.addPlayer(gamePlayer.isSpectator(), delta));
+        });
+    }
+
+    private void forCounters(Game game, Consumer<GameCounters> consumer) {
+        getGameName(game).ifPresent(gameName -> {
+            consumer.accept(getCounters(gameName));
+            consumer.accept(getGlobalCounters());
+        });
+    }
+
+    public GameCounters getCounters(String gameName) {
+        return getCounters().computeIfAbsent(gameName, k -> new GameCounters());
+    }
+
+    public void indexPlayer(UUID uuid, Game game) {
+        getPlayerGames().put(uuid, game);
+    }
+
+    public void unindexPlayer(UUID uuid, Game game) {
+        getPlayerGames().remove(uuid, game);
+    }
+
+    public void updateMatchmaking(Game game) {
+        getGameName(game).ifPresent(gameName -> getMatchmakingIndex().update(gameName, game));
+    }
+
+    public void indexHost(UUID hostUuid, Game game) {
+        getHostGames().compute(hostUuid, (k, games) -> {
+            List<Game> list = Optional.ofNullable(games).orElseGet(CopyOnWriteArrayList::new);
+            list.add(game);
+            return list;
+        });
+    }
+
+    public void unindexHost(UUID hostUuid, Game game) {
+        getHostGames().computeIfPresent(hostUuid, (k, games) -> {
+            games.remove(game);
+            return games.isEmpty() ? null : games;
+        });
+    }
+
     public void getGame(Player player, Consumer<Game> consumer) {
-        getGames().keySet().forEach(gameName -> getGame(gameName, player).ifPresent(consumer));
+        getGame(player).ifPresent(consumer);
+    }
+
+    public Optional<Game> getGame(UUID uuid) {
+        return Optional.ofNullable(getPlayerGames().get(uuid));
     }
 
     public Optional<Game> getGame(Player player) {
-        return getGames().values().stream()
-                .flatMap(List::stream)
-                .filter(game -> game.containsPlayer(player.getUniqueId())).findFirst();
+        return getGame(player.getUniqueId());
     }
 
     public Optional<Game> getGame(String gameName, Player player) {
-        return getGames().get(gameName).stream()
-                .filter(game -> game.containsPlayer(player.getUniqueId())).findFirst();
+        return getGame(player).filter(isRegisteredAs(gameName));
     }
 
     public Optional<Game> getGame(String gameName, String id) {
-        return getGames(gameName).stream()
-                .filter(game -> game.getId().equals(id)).findFirst();
+        return getGame(id).filter(isRegisteredAs(gameName));
     }
 
     public Optional<Game> getGame(String id) {
-        return getGames().values().stream()
-                .flatMap(List::stream)
-                .filter(game -> game.getId().equals(id)).findFirst();
+        return snapshot().getGame(id);
     }
 
     public Optional<Game> getGame(String gameName, World world) {
-        return getGames(gameName).stream()
-                .filter(game -> game.getSettings().getWorld().equals(world)).findFirst();
+        return getGames(world).stream()
+                .filter(isRegisteredAs(gameName)).findFirst();
     }
 
     public Optional<Game> getGame(World world) {
-        return getGames().values().stream()
-                .flatMap(List::stream)
-                .filter(game -> game.getSettings().getWorld().equals(world)).findFirst();
+        return getGames(world).stream().findFirst();
     }
 
     public Optional<Game> getBestGame(String gameName) {
-        return getReachableGame(gameName).stream().findFirst();
+        return getBestGame(gameName, MatchmakingPolicy.FILL_FIRST);
+    }
+
+    public Optional<Game> getBestGame(String gameName, MatchmakingPolicy policy) {
+        return getBestGame(gameName, 1, policy);
+    }
+
+    public Optional<Game> getBestGame(String gameName, int size, MatchmakingPolicy policy) {
+        return getMatchmakingIndex().find(gameName, GameState.WAIT, size, policy).map(Game.class::cast);
     }
 
     public Optional<Game> getGameHost(Player player) {
-        return getGamesHost().stream().filter(game -> game.getGameHost().getHostUuid().equals(player.getUniqueId())).findFirst();
+        return getGamesHost(player).stream().findFirst();
     }
 
     public List<Game> getGamesWithMorePlayers(String gameName, GameState state) {
-        return getGamesWithMorePlayers(gameName).stream()
-                .filter(game -> game.getState().equals(state))
-                .collect(Collectors.toList());
+        return toGames(getMatchmakingIndex().getSlots(gameName, state));
     }
 
     public List<Game> getGamesWithMorePlayers(String gameName) {
         return getGames(gameName).stream()
-                .max(Comparator.comparingInt(Game::getSize))
-                .stream().collect(Collectors.toList());
+                .sorted(Comparator.<Game>comparingInt(Game::getSize).reversed())
+                .collect(Collectors.toList());
     }
 
     public List<Game> getGamesWithLessPlayers(String gameName, GameState state) {
-        return getGamesWithLessPlayers(gameName).stream()
-                .filter(game -> game.getState().equals(state))
-                .collect(Collectors.toList());
+        return toGames(getMatchmakingIndex().getSlots(gameName, state).descendingSet());
     }
 
     public List<Game> getGamesWithLessPlayers(String gameName) {
         return getGames(gameName).stream()
-                .min(Comparator.comparingInt(Game::getSize))
-                .stream().collect(Collectors.toList());
+                .sorted(Comparator.comparingInt(Game::getSize))
+                .collect(Collectors.toList());
     }
 
     public List<Game> getGamesHost(Player player) {
-        return getGames().values().stream().flatMap(List::stream)
-                .filter(Game::isGameHost)
-                .filter(game -> game.getGameHost().getHostUuid().equals(player.getUniqueId()))
-                .collect(Collectors.toList());
+        return getHostGames().getOrDefault(player.getUniqueId(), Collections.emptyList());
     }
 
     public List<Game> getReachableGame(String gameName) {
@@ -175,14 +279,34 @@ public class GameManager {
                 .collect(Collectors.toList());
     }
 
+    private List<Game> toGames(Collection<GameSlot> slots) {
+        return slots.stream().map(GameSlot::getGame).map(Game.class::cast).collect(Collectors.toList());
+    }
+
+    public GameRegistrySnapshot snapshot() {
+        return getRegistry().snapshot();
+    }
+
+    public Map<String, ImmutableList<Game>> getGames() {
+        return snapshot().getGames();
+    }
+
     public List<Game> getGames(String gameName) {
-        return getGames().getOrDefault(gameName, Collections.emptyList());
+        return snapshot().getGames(gameName);
+    }
+
+    public List<Game> getGames(World world) {
+        return snapshot().getGames(world);
+    }
+
+    public Optional<String> getGameName(Game game) {
+        return snapshot().getGameName(game);
     }
 
     public List<Game> getGamesHost() {
-        return getGames().values().stream()
+        return getHostGames().values().stream()
                 .flatMap(List::stream)
-                .filter(Game::isGameHost).collect(Collectors.toList());
+                .collect(Collectors.toList());
     }
 
     public List<Game> getGamesHost(String gameName) {
@@ -204,17 +328,21 @@ public class GameManager {
     }
 
     public List<Game> getEmptyGames() {
-        return getGames().values().stream().flatMap(List::stream)
-                .filter(game -> game.getAlivePlayers().isEmpty())
+        return snapshot().getAllGames().stream()
+                .filter(game -> game.getAlivePlayersCount() == 0)
                 .collect(Collectors.toList());
     }
 
+    private Predicate<Game> isRegisteredAs(String gameName) {
+        return game -> getGameName(game).filter(gameName::equals).isPresent();
+    }
+
     private Predicate<Game> canJoinGameWithParty(GameParty gameParty) {
         return game -> gameParty.getSize() + game.getSize() < game.getSettings().getGameSize().getMaxPlayer();
     }
 
     public boolean isInGame(Player player) {
-        return getGame(player).isPresent();
+        return getPlayerGames().containsKey(player.getUniqueId());
     }
 
     public boolean isNotInGame(Player player) {
@@ -222,28 +350,45 @@ public class GameManager {
     }
 
     public int getPlayersCount(String... gamesName) {
-        return Arrays.stream(gamesName).map(this::getGames)
-                .flatMap(List::stream)
-                .mapToInt(Game::getSize).sum();
+        int count = 0;
+
+        for (String gameName : gamesName)
+            count += getPlayersCount(gameName);
+
+        return count;
     }
 
     public int getPlayersCount(String gameName) {
-        return getGames(gameName).stream()
-                .mapToInt(Game::getSize).sum();
+        return getCounters(gameName).getPlayersCount();
     }
 
     public int getPlayersCount() {
-        return getGames().values().stream()
-                .flatMap(List::stream)
-                .mapToInt(Game::getSize).sum();
+        return getGlobalCounters().getPlayersCount();
+    }
+
+    public int getAlivePlayersCount(String gameName) {
+        return getCounters(gameName).getAlivePlayersCount();
+    }
+
+    public int getSpectatorsCount(String gameName) {
+        return getCounters(gameName).getSpectatorsCount();
     }
 
     public int getSize(String... gamesName) {
-        return Arrays.stream(gamesName).mapToInt(this::getSize).sum();
+        int size = 0;
+
+        for (String gameName : gamesName)
+            size += getSize(gameName);
+
+        return size;
     }
 
     public int getSize(String gameName) {
-        return getGames(gameName).size();
+        return getCounters(gameName).getGamesCount();
+    }
+
+    public int getSize(String gameName, GameState state) {
+        return getCounters(gameName).getGamesCount(state);
     }
 
     public int getSize() {
@@ -1,6 +1,5 @@
 package fr.joupi.api.game;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Bukkit;
@@ -8,16 +7,30 @@ import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.UUID;
 
 @Getter
 @Setter
-@AllArgsConstructor
 public abstract class GamePlayer {
 
     private final UUID uuid;
     private boolean spectator;
 
+    private Game<?, ?, ?> game;
+
+    public GamePlayer(UUID uuid, boolean spectator) {
+        this.uuid = uuid;
+        this.spectator = spectator;
+    }
+
+    public void setSpectator(boolean spectator) {
+        if (this.spectator != spectator) {
+            this.spectator = spectator;
+            Optional.ofNullable(getGame()).ifPresent(game -> game.updateSpectator(this));
+        }
+    }
+
     public void sendMessage(String... messages) {
         Arrays.asList(messages)
                 .forEach(message -> getPlayer().sendMessage(ChatColor.translateAlternateColorCodes('&', message)));
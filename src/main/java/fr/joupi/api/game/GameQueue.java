@@ -1,52 +1,117 @@
 package fr.joupi.api.game;
 
-import fr.joupi.api.MultiThreading;
+import fr.joupi.api.game.event.GameUnloadEvent;
+import fr.joupi.api.game.queue.GameQueueDispatcher;
+import fr.joupi.api.game.queue.QueueTier;
+import fr.joupi.api.game.queue.RankedQueue;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 @Getter
 public class GameQueue<G extends Game<?, ?, ?>> {
 
     private final G game;
 
-    private final List<UUID> queue;
+    private final RankedQueue<UUID> queue;
+    private final Map<UUID, QueueTier> tiers;
+    private final Map<QueueTier, Double> finishTags;
+
+    private double virtualTime;
 
     public GameQueue(G game) {
         this.game = game;
-        this.queue = new LinkedList<>();
-        MultiThreading.runnablePool.scheduleAtFixedRate(this::update, 1, 1, TimeUnit.SECONDS);
+        this.queue = new RankedQueue<>();
+        this.tiers = new ConcurrentHashMap<>();
+        this.finishTags = new EnumMap<>(QueueTier.class);
+        GameQueueDispatcher.register(this);
+        game.getEventBus().subscribe(GameUnloadEvent.class, event -> unregister());
+    }
+
+    public void update() {
+        for (int slots = getGame().getFreeSlots(); slots > 0; ) {
+            Optional<UUID> uuid = poll();
+
+            if (!uuid.isPresent())
+                break;
+
+            Player player = Bukkit.getPlayer(uuid.get());
+
+            if (player != null && admit(player))
+                slots--;
+        }
     }
 
-    private void update() {
-        getFirstPlayer().map(Bukkit::getPlayer).ifPresent(player -> {
-            removePlayer(player);
-            getGame().joinGame(player);
+    private boolean admit(Player player) {
+        if (getGame().containsPlayer(player))
+            return false;
+
+        getGame().joinGame(player);
+        return getGame().containsPlayer(player);
+    }
+
+    private synchronized Optional<UUID> poll() {
+        Optional<UUID> uuid = getQueue().peek();
+
+        uuid.ifPresent(first -> {
+            getQueue().getKey(first).ifPresent(key -> virtualTime = key);
+            getQueue().remove(first);
+            getTiers().remove(first);
         });
+
+        return uuid;
+    }
+
+    public synchronized void unregister() {
+        GameQueueDispatcher.unregister(this);
+        getQueue().clear();
+        getTiers().clear();
+        getFinishTags().clear();
     }
 
     public Optional<UUID> getFirstPlayer() {
-        return getQueue().stream().findFirst();
+        return getQueue().peek();
     }
 
     public Optional<UUID> getPlayer(UUID uuid) {
-        return getQueue().stream().filter(uuid::equals).findFirst();
+        return Optional.of(uuid).filter(this::contains);
     }
 
     public void addPlayer(Player player) {
-        getQueue().add(player.getUniqueId());
-        getGame().debug("Queue - Added {0} to {1} queue", player.getName(), getGame().getFullName());
+        addPlayer(player, QueueTier.of(player, isInParty(player)));
+    }
+
+    public synchronized void addPlayer(Player player, QueueTier tier) {
+        if (contains(player.getUniqueId()))
+            return;
+
+        double finishTag = Math.max(virtualTime, getFinishTags().getOrDefault(tier, 0D)) + 1D / tier.getWeight();
+        getFinishTags().put(tier, finishTag);
+        getTiers().put(player.getUniqueId(), tier);
+        getQueue().add(player.getUniqueId(), finishTag);
+        getGame().debug("Queue - Added {0} to {1} queue as {2}", player.getName(), getGame().getFullName(), tier);
     }
 
-    public void removePlayer(Player player) {
-        getQueue().remove(player.getUniqueId());
-        getGame().debug("Queue - Remove {0} from {1} queue", player.getPlayer().getName(), getGame().getFullName());
+    public synchronized void removePlayer(Player player) {
+        getTiers().remove(player.getUniqueId());
+
+        if (getQueue().remove(player.getUniqueId()))
+            getGame().debug("Queue - Remove {0} from {1} queue", player.getName(), getGame().getFullName());
+    }
+
+    public Optional<QueueTier> getTier(UUID uuid) {
+        return Optional.ofNullable(getTiers().get(uuid));
+    }
+
+    public void forEachPosition(BiConsumer<UUID, Integer> consumer) {
+        getQueue().forEachRanked(consumer::accept);
     }
 
     public boolean contains(UUID uuid) {
@@ -58,7 +123,13 @@ public class GameQueue<G extends Game<?, ?, ?>> {
     }
 
     public int getPosition(UUID uuid) {
-        return getQueue().indexOf(uuid) + 1;
+        return getQueue().getPosition(uuid);
+    }
+
+    private boolean isInParty(Player player) {
+        return Optional.ofNullable(getGame().getGameManager())
+                .map(gameManager -> gameManager.getPartyManager().isInParty(player))
+                .orElse(false);
     }
 
     public boolean isEmpty() {
@@ -0,0 +1,32 @@
+package fr.joupi.api.game;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@Getter
+public class GameRegistry {
+
+    private final AtomicReference<GameRegistrySnapshot> current;
+
+    public GameRegistry() {
+        this.current = new AtomicReference<>(GameRegistrySnapshot.EMPTY);
+    }
+
+    public GameRegistrySnapshot snapshot() {
+        return getCurrent().get();
+    }
+
+    public GameRegistrySnapshot add(String gameName, Game game) {
+        return getCurrent().updateAndGet(snapshot -> snapshot.with(gameName, game));
+    }
+
+    public GameRegistrySnapshot remove(Game game) {
+        return getCurrent().updateAndGet(snapshot -> snapshot.without(game));
+    }
+
+    public long getVersion() {
+        return snapshot().getVersion();
+    }
+
+}
@@ -0,0 +1,87 @@
+package fr.joupi.api.game;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.World;
+
+import java.util.*;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GameRegistrySnapshot {
+
+    public static final GameRegistrySnapshot EMPTY = new GameRegistrySnapshot(0, ImmutableMap.of(), ImmutableMap.of(), ImmutableMap.of(), ImmutableMap.of());
+
+    private final long version;
+
+    private final ImmutableMap<Game, String> gameNames;
+    private final ImmutableMap<String, ImmutableList<Game>> games;
+    private final ImmutableMap<String, Game> gamesById;
+    private final ImmutableMap<World, ImmutableList<Game>> worldGames;
+
+    public GameRegistrySnapshot with(String gameName, Game game) {
+        if (getGameNames().containsKey(game))
+            return this;
+
+        Map<Game, String> gameNames = new LinkedHashMap<>(getGameNames());
+        gameNames.put(game, gameName);
+        return build(getVersion() + 1, gameNames);
+    }
+
+    public GameRegistrySnapshot without(Game game) {
+        if (!getGameNames().containsKey(game))
+            return this;
+
+        Map<Game, String> gameNames = new LinkedHashMap<>(getGameNames());
+        gameNames.remove(game);
+        return build(getVersion() + 1, gameNames);
+    }
+
+    public Optional<String> getGameName(Game game) {
+        return Optional.ofNullable(getGameNames().get(game));
+    }
+
+    public Optional<Game> getGame(String id) {
+        return Optional.ofNullable(getGamesById().get(id));
+    }
+
+    public List<Game> getGames(String gameName) {
+        return getGames().getOrDefault(gameName, ImmutableList.of());
+    }
+
+    public List<Game> getGames(World world) {
+        return getWorldGames().getOrDefault(world, ImmutableList.of());
+    }
+
+    public Collection<Game> getAllGames() {
+        return getGameNames().keySet();
+    }
+
+    public int getSize() {
+        return getGameNames().size();
+    }
+
+    private static GameRegistrySnapshot build(long version, Map<Game, String> gameNames) {
+        Map<String, ImmutableList.Builder<Game>> games = new LinkedHashMap<>();
+        Map<World, ImmutableList.Builder<Game>> worldGames = new LinkedHashMap<>();
+        Map<String, Game> gamesById = new HashMap<>();
+
+        gameNames.forEach((game, gameName) -> {
+            games.computeIfAbsent(gameName, k -> ImmutableList.builder()).add(game);
+            Optional.ofNullable(game.getSettings().getWorld()).ifPresent(world -> worldGames.computeIfAbsent(world, k -> ImmutableList.builder()).add(game));
+            gamesById.putIfAbsent(game.getId(), game);
+        });
+
+        return new GameRegistrySnapshot(version, ImmutableMap.copyOf(gameNames), buildAll(games), ImmutableMap.copyOf(gamesById), buildAll(worldGames));
+    }
+
+    private static <K> ImmutableMap<K, ImmutableList<Game>> buildAll(Map<K, ImmutableList.Builder<Game>> builders) {
+        ImmutableMap.Builder<K, ImmutableList<Game>> builder = ImmutableMap.builder();
+        builders.forEach((key, games) -> builder.put(key, games.build()));
+        return builder.build();
+    }
+
+}
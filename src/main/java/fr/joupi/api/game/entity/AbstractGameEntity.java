@@ -2,35 +2,60 @@ package fr.joupi.api.game.entity;
 
 import lombok.Getter;
 import lombok.Setter;
-import net.minecraft.server.v1_8_R3.NBTTagCompound;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
-import org.bukkit.craftbukkit.v1_8_R3.entity.CraftEntity;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+
+import java.util.Optional;
 
 @Getter
 @Setter
 public abstract class AbstractGameEntity<E extends Entity> implements GameEntity<E> {
 
     private E entity;
+    private GameEntityManager manager;
 
     private final String name;
     private final int maxHealth;
     private final Location location;
+    private final GameEntityTemplate<E> template;
 
     public AbstractGameEntity(String name, int maxHealth, Location location) {
+        this(name, maxHealth, location, null);
+    }
+
+    public AbstractGameEntity(String name, int maxHealth, Location location, GameEntityTemplate<E> template) {
         this.name = ChatColor.translateAlternateColorCodes('&', name);
         this.maxHealth = maxHealth;
         this.location = location;
+        this.template = template;
     }
 
-    public void removeAI(Entity entity) {
-        net.minecraft.server.v1_8_R3.Entity nmsEnt = ((CraftEntity) entity).getHandle();
-        NBTTagCompound tag = nmsEnt.getNBTTag() != null ? nmsEnt.getNBTTag() : new NBTTagCompound();
+    public E acquire() {
+        setEntity(GameEntityPool.acquire(getTemplate(), getLocation()));
+        getEntity().setCustomName(getName());
+        getEntity().setCustomNameVisible(true);
+
+        if (getEntity() instanceof LivingEntity) {
+            ((LivingEntity) getEntity()).setMaxHealth(getMaxHealth());
+            ((LivingEntity) getEntity()).setHealth(getMaxHealth());
+        }
+
+        return getEntity();
+    }
+
+    public void release() {
+        Optional.ofNullable(getEntity()).ifPresent(entity -> GameEntityPool.release(getTemplate(), entity));
+        setEntity(null);
+    }
 
-        nmsEnt.c(tag);
-        tag.setInt("NoAI", 1);
-        nmsEnt.f(tag);
+    public boolean isPooled() {
+        return getTemplate() != null;
+    }
+
+    public void removeAI(Entity entity) {
+        GameEntityTemplate.removeAI(entity);
     }
 
 }
@@ -0,0 +1,68 @@
+package fr.joupi.api.game.entity;
+
+import fr.joupi.api.game.utils.IntObjectMap;
+import lombok.experimental.UtilityClass;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Optional;
+
+@UtilityClass
+public class GameEntityIndex {
+
+    private final IntObjectMap<AbstractGameEntity<?>> entities = new IntObjectMap<>(256);
+
+    private GameEntityListener listener;
+    private AbstractGameEntity<?> spawning;
+
+    public synchronized void start(JavaPlugin plugin) {
+        if (listener == null) {
+            listener = new GameEntityListener(plugin);
+            Bukkit.getPluginManager().registerEvents(listener, plugin);
+        }
+    }
+
+    public void spawn(AbstractGameEntity<?> entity) {
+        AbstractGameEntity<?> previous = spawning;
+        spawning = entity;
+
+        try {
+            if (entity.isPooled())
+                entity.acquire();
+            else
+                entity.spawn();
+        } finally {
+            spawning = previous;
+        }
+
+        index(entity);
+    }
+
+    public void index(AbstractGameEntity<?> entity) {
+        Optional.ofNullable(entity.getEntity()).ifPresent(bukkitEntity -> entities.put(bukkitEntity.getEntityId(), entity));
+    }
+
+    public void unindex(AbstractGameEntity<?> entity) {
+        Optional.ofNullable(entity.getEntity())
+                .filter(bukkitEntity -> entities.get(bukkitEntity.getEntityId()) == entity)
+                .ifPresent(bukkitEntity -> entities.remove(bukkitEntity.getEntityId()));
+    }
+
+    public Optional<AbstractGameEntity<?>> getEntity(Entity entity) {
+        return getEntity(entity.getEntityId());
+    }
+
+    public Optional<AbstractGameEntity<?>> getEntity(int entityId) {
+        return Optional.ofNullable(entities.get(entityId));
+    }
+
+    Optional<AbstractGameEntity<?>> getSpawning() {
+        return Optional.ofNullable(spawning);
+    }
+
+    public int size() {
+        return entities.size();
+    }
+
+}
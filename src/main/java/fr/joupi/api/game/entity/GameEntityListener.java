@@ -0,0 +1,66 @@
+package fr.joupi.api.game.entity;
+
+import lombok.AllArgsConstructor;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntitySpawnEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Optional;
+
+@AllArgsConstructor
+class GameEntityListener implements Listener {
+
+    private final JavaPlugin plugin;
+
+    @EventHandler
+    public void onDisable(PluginDisableEvent event) {
+        if (event.getPlugin() != plugin)
+            return;
+
+        GameEntityPool.clear();
+        Bukkit.getOnlinePlayers().forEach(VirtualEntityInterceptor::uninject);
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        VirtualEntityInterceptor.uninject(event.getPlayer());
+    }
+
+    @EventHandler
+    public void onSpawn(EntitySpawnEvent event) {
+        Optional<AbstractGameEntity<?>> entity = GameEntityIndex.getEntity(event.getEntity());
+
+        (entity.isPresent() ? entity : GameEntityIndex.getSpawning())
+                .ifPresent(gameEntity -> gameEntity.spawnEvent().accept(event));
+    }
+
+    @EventHandler
+    public void onInteract(PlayerInteractEntityEvent event) {
+        GameEntityIndex.getEntity(event.getRightClicked())
+                .ifPresent(entity -> entity.interactEvent().accept(event));
+    }
+
+    @EventHandler
+    public void onDamage(EntityDamageByEntityEvent event) {
+        if (event.getDamager() instanceof Player)
+            GameEntityIndex.getEntity(event.getEntity())
+                    .ifPresent(entity -> entity.damageEvent().accept(event));
+    }
+
+    @EventHandler
+    public void onDeath(EntityDeathEvent event) {
+        GameEntityIndex.getEntity(event.getEntity()).ifPresent(entity -> {
+            entity.deathEvent().accept(event);
+            Optional.ofNullable(entity.getManager()).ifPresent(manager -> manager.destroy(entity));
+        });
+    }
+
+}
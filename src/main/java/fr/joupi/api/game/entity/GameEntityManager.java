@@ -1,76 +1,112 @@
 package fr.joupi.api.game.entity;
 
+import fr.joupi.api.game.Game;
+import fr.joupi.api.game.GamePlayer;
+import fr.joupi.api.game.event.GamePlayerJoinEvent;
+import fr.joupi.api.game.event.GamePlayerLeaveEvent;
+import fr.joupi.api.game.event.GameUnloadEvent;
 import lombok.Getter;
-import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
-import org.bukkit.event.entity.EntityDeathEvent;
-import org.bukkit.event.entity.EntitySpawnEvent;
-import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Getter
-public class GameEntityManager implements Listener {
+public class GameEntityManager {
 
+    private final Game<?, ?, ?> game;
     private final Map<String, AbstractGameEntity<?>> entities;
+    private final Map<String, VirtualGameEntity> virtualEntities;
 
     public GameEntityManager(JavaPlugin plugin) {
+        this(plugin, null);
+    }
+
+    public GameEntityManager(Game<?, ?, ?> game) {
+        this(game.getPlugin(), game);
+        game.getEventBus().subscribe(GamePlayerJoinEvent.class, event -> Optional.ofNullable(event.getPlayer()).ifPresent(player -> getVirtualEntities().values().forEach(entity -> entity.show(player))));
+        game.getEventBus().subscribe(GamePlayerLeaveEvent.class, event -> Optional.ofNullable(event.getPlayer()).ifPresent(player -> getVirtualEntities().values().forEach(entity -> entity.hide(player))));
+        game.getEventBus().subscribe(GameUnloadEvent.class, event -> destroyAll());
+    }
+
+    private GameEntityManager(JavaPlugin plugin, Game<?, ?, ?> game) {
+        this.game = game;
         this.entities = new ConcurrentHashMap<>();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        this.virtualEntities = new ConcurrentHashMap<>();
+        GameEntityIndex.start(plugin);
     }
 
     public void spawn(AbstractGameEntity<?> entity) {
-        entity.spawn();
+        entity.setManager(this);
+        GameEntityIndex.spawn(entity);
+        GameEntityUpdater.register(entity);
         getEntities().putIfAbsent(entity.getName(), entity);
+        track(entity);
+    }
+
+    public void spawn(VirtualGameEntity entity) {
+        entity.setManager(this);
+        entity.allocate();
+        getVirtualEntities().putIfAbsent(entity.getName(), entity);
+        Optional.ofNullable(getGame()).ifPresent(game -> game.getPlayers().values().stream()
+                .map(GamePlayer::getPlayer)
+                .filter(Objects::nonNull)
+                .forEach(entity::show));
+    }
+
+    public void destroy(VirtualGameEntity entity) {
+        entity.remove();
+        entity.setManager(null);
+        getVirtualEntities().remove(entity.getName(), entity);
+    }
+
+    public Optional<VirtualGameEntity> getVirtualEntity(String entityName) {
+        return Optional.ofNullable(getVirtualEntities().get(entityName));
+    }
+
+    public void track(AbstractGameEntity<?> entity) {
+        Optional.ofNullable(getGame()).ifPresent(game -> game.getSpatialIndex().trackEntity(entity));
     }
 
     public void destroy(String entityName) {
-        Optional.ofNullable(getEntities().get(entityName)).ifPresent(GameEntity::destroy);
-        getEntities().remove(entityName);
+        Optional.ofNullable(getEntities().get(entityName)).ifPresent(this::destroy);
+        Optional.ofNullable(getVirtualEntities().get(entityName)).ifPresent(this::destroy);
     }
 
-    public void destroy(String... entitiesName) {
-        Arrays.asList(entitiesName)
-                .forEach(this::destroy);
+    public void destroy(AbstractGameEntity<?> entity) {
+        GameEntityIndex.unindex(entity);
+        GameEntityUpdater.unregister(entity);
+        Optional.ofNullable(getGame()).ifPresent(game -> game.getSpatialIndex().untrackEntity(entity));
+
+        if (entity.isPooled())
+            entity.release();
+        else
+            entity.destroy();
+
+        entity.setManager(null);
+        getEntities().remove(entity.getName(), entity);
     }
 
-    @EventHandler
-    public void onSpawn(EntitySpawnEvent event) {
-        getEntities().values().stream()
-                .filter(entity -> entity.getEntity().equals(event.getEntity()))
-                .forEach(entity -> entity.spawnEvent().accept(event));
+    public void destroyAll() {
+        new ArrayList<>(getEntities().values()).forEach(this::destroy);
+        new ArrayList<>(getVirtualEntities().values()).forEach(this::destroy);
     }
 
-    @EventHandler
-    public void onInteract(PlayerInteractEntityEvent event) {
-        getEntities().values().stream()
-                .filter(entity -> entity.getEntity().equals(event.getRightClicked()))
-                .forEach(entity -> entity.interactEvent().accept(event));
+    public Optional<AbstractGameEntity<?>> getEntity(String entityName) {
+        return Optional.ofNullable(getEntities().get(entityName));
     }
 
-    @EventHandler
-    public void onDamage(EntityDamageByEntityEvent event) {
-        getEntities().values().stream()
-                .filter(entity -> event.getDamager() instanceof Player)
-                .filter(entity -> entity.getEntity().equals(event.getEntity()))
-                .forEach(entity -> entity.damageEvent().accept(event));
+    public void update() {
+        getEntities().values().forEach(GameEntity::update);
     }
 
-    @EventHandler
-    public void onDeath(EntityDeathEvent event) {
-        getEntities().values().stream()
-                .filter(entity -> entity.getEntity().equals(event.getEntity()))
-                .forEach(entity -> {
-                    entity.deathEvent().accept(event);
-                    entity.destroy();
-                    getEntities().remove(entity.getName());
-                });
+    public void destroy(String... entitiesName) {
+        Arrays.asList(entitiesName)
+                .forEach(this::destroy);
     }
 
 }
@@ -0,0 +1,108 @@
+package fr.joupi.api.game.entity;
+
+import lombok.experimental.UtilityClass;
+import net.minecraft.server.v1_8_R3.EntityTracker;
+import net.minecraft.server.v1_8_R3.WorldServer;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.craftbukkit.v1_8_R3.entity.CraftEntity;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.entity.EntitySpawnEvent;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@UtilityClass
+public class GameEntityPool {
+
+    private final Map<GameEntityTemplate<?>, Deque<Entity>> parked = new ConcurrentHashMap<>();
+
+    private final LongAdder created = new LongAdder(), reused = new LongAdder();
+
+    public <E extends Entity> E acquire(GameEntityTemplate<E> template, Location location) {
+        Deque<Entity> entities = getParked(template);
+        Entity entity;
+
+        while ((entity = entities.pollFirst()) != null) {
+            if (entity.isValid() && !entity.isDead()) {
+                E pooled = template.getType().cast(entity);
+                pooled.teleport(location);
+                unpark(template, pooled);
+                template.getReset().accept(pooled);
+
+                EntitySpawnEvent event = new EntitySpawnEvent(pooled);
+                Bukkit.getPluginManager().callEvent(event);
+
+                if (event.isCancelled()) {
+                    pooled.remove();
+                    break;
+                }
+
+                reused.increment();
+                return pooled;
+            }
+        }
+
+        created.increment();
+        return template.create(location);
+    }
+
+    public <E extends Entity> void release(GameEntityTemplate<E> template, E entity) {
+        Deque<Entity> entities = getParked(template);
+
+        if (template.getParkLocation() == null || entities.size() >= template.getMaxParked() || !entity.isValid()) {
+            entity.remove();
+            return;
+        }
+
+        entity.setCustomNameVisible(false);
+        entity.teleport(template.getParkLocation());
+        park(entity);
+        entities.addLast(entity);
+    }
+
+    private void park(Entity entity) {
+        GameEntityTemplate.setAI(entity, false);
+        getTracker(entity).ifPresent(tracker -> tracker.untrackEntity(((CraftEntity) entity).getHandle()));
+    }
+
+    private void unpark(GameEntityTemplate<?> template, Entity entity) {
+        getTracker(entity).ifPresent(tracker -> tracker.track(((CraftEntity) entity).getHandle()));
+        GameEntityTemplate.setAI(entity, !template.isNoAI());
+    }
+
+    private Optional<EntityTracker> getTracker(Entity entity) {
+        return Optional.of(((CraftEntity) entity).getHandle().world)
+                .filter(WorldServer.class::isInstance)
+                .map(world -> ((WorldServer) world).getTracker());
+    }
+
+    public void clear(GameEntityTemplate<?> template) {
+        Optional.ofNullable(parked.remove(template)).ifPresent(entities -> entities.forEach(Entity::remove));
+    }
+
+    public void clear() {
+        parked.keySet().forEach(GameEntityPool::clear);
+    }
+
+    public int getParkedCount(GameEntityTemplate<?> template) {
+        return Optional.ofNullable(parked.get(template)).map(Deque::size).orElse(0);
+    }
+
+    public long getCreatedCount() {
+        return created.sum();
+    }
+
+    public long getReusedCount() {
+        return reused.sum();
+    }
+
+    private Deque<Entity> getParked(GameEntityTemplate<?> template) {
+        return parked.computeIfAbsent(template, key -> new ArrayDeque<>());
+    }
+
+}
@@ -0,0 +1,57 @@
+package fr.joupi.api.game.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.minecraft.server.v1_8_R3.NBTTagCompound;
+import org.bukkit.Location;
+import org.bukkit.craftbukkit.v1_8_R3.entity.CraftEntity;
+import org.bukkit.entity.Entity;
+
+import java.util.function.Consumer;
+
+@Getter
+@Setter
+public class GameEntityTemplate<E extends Entity> {
+
+    private final String name;
+    private final Class<E> type;
+
+    private boolean noAI;
+    private int maxParked;
+    private Location parkLocation;
+
+    private Consumer<E> setup, reset;
+
+    public GameEntityTemplate(String name, Class<E> type) {
+        this.name = name;
+        this.type = type;
+        this.noAI = true;
+        this.maxParked = 16;
+        this.setup = entity -> {};
+        this.reset = entity -> {};
+    }
+
+    E create(Location location) {
+        E entity = location.getWorld().spawn(location, getType());
+
+        if (isNoAI())
+            removeAI(entity);
+
+        getSetup().accept(entity);
+        return entity;
+    }
+
+    public static void removeAI(Entity entity) {
+        setAI(entity, false);
+    }
+
+    public static void setAI(Entity entity, boolean enabled) {
+        net.minecraft.server.v1_8_R3.Entity nmsEnt = ((CraftEntity) entity).getHandle();
+        NBTTagCompound tag = nmsEnt.getNBTTag() != null ? nmsEnt.getNBTTag() : new NBTTagCompound();
+
+        nmsEnt.c(tag);
+        tag.setInt("NoAI", enabled ? 0 : 1);
+        nmsEnt.f(tag);
+    }
+
+}
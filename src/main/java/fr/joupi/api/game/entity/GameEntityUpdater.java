@@ -0,0 +1,125 @@
+package fr.joupi.api.game.entity;
+
+import fr.joupi.api.Utils;
+import fr.joupi.api.game.Game;
+import fr.joupi.api.game.spatial.SpatialGrid;
+import fr.joupi.api.game.utils.GameTicker;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.UtilityClass;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@UtilityClass
+public class GameEntityUpdater {
+
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private final Map<AbstractGameEntity<?>, Entry> index = new ConcurrentHashMap<>();
+
+    @Getter
+    @Setter
+    private long budget = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Getter
+    @Setter
+    private double nearDistance = 32, farDistance = 64;
+
+    @Getter
+    @Setter
+    private int nearInterval = 1, farInterval = 5, idleInterval = 20;
+
+    @Getter
+    private int lastUpdated;
+
+    private boolean started;
+
+    public synchronized void register(AbstractGameEntity<?> entity) {
+        if (!started) {
+            GameTicker.runTimer(GameTicker.GLOBAL, task -> tick(), 1L, 1L);
+            started = true;
+        }
+
+        index.computeIfAbsent(entity, key -> {
+            Entry entry = new Entry(key);
+            entries.addLast(entry);
+            return entry;
+        });
+    }
+
+    public void unregister(AbstractGameEntity<?> entity) {
+        Optional.ofNullable(index.remove(entity)).ifPresent(entry -> entry.removed = true);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    private synchronized void tick() {
+        long currentTick = GameTicker.getCurrentTick();
+        long deadline = System.nanoTime() + getBudget();
+        int updated = 0;
+
+        for (int remaining = entries.size(); remaining > 0 && System.nanoTime() < deadline; remaining--) {
+            Entry entry = entries.pollFirst();
+
+            if (entry.removed)
+                continue;
+
+            if (currentTick >= entry.nextTick) {
+                update(entry.entity);
+                entry.nextTick = currentTick + getInterval(entry.entity);
+                updated++;
+            }
+
+            entries.addLast(entry);
+        }
+
+        lastUpdated = updated;
+    }
+
+    private void update(AbstractGameEntity<?> entity) {
+        try {
+            entity.update();
+            Optional.ofNullable(entity.getManager()).ifPresent(manager -> manager.track(entity));
+        } catch (Exception exception) {
+            Utils.warn(exception, "EntityUpdater - {0} failed to update", entity.getName());
+        }
+    }
+
+    private int getInterval(AbstractGameEntity<?> entity) {
+        Game<?, ?, ?> game = Optional.ofNullable(entity.getManager()).map(GameEntityManager::getGame).orElse(null);
+
+        if (game == null)
+            return getNearInterval();
+
+        Location location = Optional.ofNullable(entity.getEntity()).map(Entity::getLocation).orElse(entity.getLocation());
+        SpatialGrid<UUID> players = game.getSpatialIndex().getPlayers();
+
+        if (players.isAnyInRadius(location, getNearDistance()))
+            return getNearInterval();
+
+        return players.isAnyInRadius(location, getFarDistance()) ? getFarInterval() : getIdleInterval();
+    }
+
+    private static class Entry {
+
+        private final AbstractGameEntity<?> entity;
+
+        private long nextTick;
+        private volatile boolean removed;
+
+        private Entry(AbstractGameEntity<?> entity) {
+            this.entity = entity;
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package fr.joupi.api.game.entity;
+
+import net.minecraft.server.v1_8_R3.*;
+import org.bukkit.Location;
+import org.bukkit.craftbukkit.v1_8_R3.CraftWorld;
+import org.bukkit.craftbukkit.v1_8_R3.entity.CraftPlayer;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class NmsPacketSink implements PacketSink {
+
+    private final Map<Integer, Entity> handles = new ConcurrentHashMap<>();
+
+    @Override
+    public int allocate(VirtualGameEntity entity) {
+        Location location = entity.getLocation();
+        Entity handle = EntityTypes.createEntityByName(entity.getType().getName(), ((CraftWorld) location.getWorld()).getHandle());
+
+        if (!(handle instanceof EntityLiving))
+            throw new IllegalArgumentException("Virtual entities must be living entities, got " + entity.getType());
+
+        handle.setLocation(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
+        handle.setCustomName(entity.getName());
+        handle.setCustomNameVisible(true);
+        handles.put(handle.getId(), handle);
+        return handle.getId();
+    }
+
+    @Override
+    public void spawn(Player viewer, VirtualGameEntity entity) {
+        getHandle(entity.getEntityId()).ifPresent(handle -> send(viewer, new PacketPlayOutSpawnEntityLiving((EntityLiving) handle)));
+    }
+
+    @Override
+    public void teleport(Player viewer, VirtualGameEntity entity) {
+        Location location = entity.getLocation();
+
+        getHandle(entity.getEntityId()).ifPresent(handle -> {
+            handle.setLocation(location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
+            send(viewer, new PacketPlayOutEntityTeleport(handle));
+        });
+    }
+
+    @Override
+    public void destroy(Player viewer, int entityId) {
+        send(viewer, new PacketPlayOutEntityDestroy(entityId));
+    }
+
+    @Override
+    public void release(int entityId) {
+        handles.remove(entityId);
+    }
+
+    private Optional<Entity> getHandle(int entityId) {
+        return Optional.ofNullable(handles.get(entityId));
+    }
+
+    private void send(Player viewer, Packet<?> packet) {
+        ((CraftPlayer) viewer).getHandle().playerConnection.sendPacket(packet);
+    }
+
+}
@@ -0,0 +1,17 @@
+package fr.joupi.api.game.entity;
+
+import org.bukkit.entity.Player;
+
+public interface PacketSink {
+
+    int allocate(VirtualGameEntity entity);
+
+    void spawn(Player viewer, VirtualGameEntity entity);
+
+    void teleport(Player viewer, VirtualGameEntity entity);
+
+    void destroy(Player viewer, int entityId);
+
+    void release(int entityId);
+
+}
@@ -0,0 +1,102 @@
+package fr.joupi.api.game.entity;
+
+import fr.joupi.api.MultiThreading;
+import fr.joupi.api.Utils;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import net.minecraft.server.v1_8_R3.PacketPlayInUseEntity;
+import org.bukkit.craftbukkit.v1_8_R3.entity.CraftPlayer;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class VirtualEntityInterceptor extends ChannelDuplexHandler {
+
+    private static final String HANDLER_NAME = "skyly_virtual_entities";
+
+    private static final Map<Integer, VirtualGameEntity> entities = new ConcurrentHashMap<>();
+
+    private static final Field entityIdField = getField("a"), actionField = getField("action");
+
+    private final Player player;
+
+    private VirtualEntityInterceptor(Player player) {
+        this.player = player;
+    }
+
+    static void register(VirtualGameEntity entity) {
+        entities.put(entity.getEntityId(), entity);
+    }
+
+    static void unregister(VirtualGameEntity entity) {
+        entities.remove(entity.getEntityId(), entity);
+    }
+
+    public static Optional<VirtualGameEntity> getEntity(int entityId) {
+        return Optional.ofNullable(entities.get(entityId));
+    }
+
+    public static void inject(Player player) {
+        getChannel(player).ifPresent(channel -> {
+            if (channel.pipeline().get(HANDLER_NAME) == null)
+                channel.pipeline().addBefore("packet_handler", HANDLER_NAME, new VirtualEntityInterceptor(player));
+        });
+    }
+
+    public static void uninject(Player player) {
+        getChannel(player).ifPresent(channel -> channel.eventLoop().execute(() -> {
+            if (channel.pipeline().get(HANDLER_NAME) != null)
+                channel.pipeline().remove(HANDLER_NAME);
+        }));
+    }
+
+    private static Optional<Channel> getChannel(Player player) {
+        if (!(player instanceof CraftPlayer))
+            return Optional.empty();
+
+        return Optional.ofNullable(((CraftPlayer) player).getHandle().playerConnection).map(connection -> connection.networkManager.channel);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext context, Object message) throws Exception {
+        if (message instanceof PacketPlayInUseEntity && intercept((PacketPlayInUseEntity) message))
+            return;
+
+        super.channelRead(context, message);
+    }
+
+    private boolean intercept(PacketPlayInUseEntity packet) {
+        if (entityIdField == null || actionField == null)
+            return false;
+
+        try {
+            return route(entityIdField.getInt(packet), player, actionField.get(packet) == PacketPlayInUseEntity.EnumEntityUseAction.ATTACK);
+        } catch (IllegalAccessException exception) {
+            Utils.warn(exception, "VirtualEntity - failed to read interaction");
+            return false;
+        }
+    }
+
+    static boolean route(int entityId, Player player, boolean attack) {
+        return getEntity(entityId).filter(entity -> entity.isViewer(player)).map(entity -> {
+            MultiThreading.onMain(() -> entity.interact(player, attack));
+            return true;
+        }).orElse(false);
+    }
+
+    private static Field getField(String name) {
+        try {
+            Field field = PacketPlayInUseEntity.class.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException exception) {
+            Utils.debug("VirtualEntity - unsupported PacketPlayInUseEntity layout, missing field {0}", name);
+            return null;
+        }
+    }
+
+}
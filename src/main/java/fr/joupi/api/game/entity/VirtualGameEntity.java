@@ -0,0 +1,109 @@
+package fr.joupi.api.game.entity;
+
+import fr.joupi.api.game.event.VirtualEntityInteractEvent;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Getter
+public abstract class VirtualGameEntity {
+
+    @Setter
+    private static volatile PacketSink defaultSink;
+
+    private final String name;
+    private final EntityType type;
+    private final Set<UUID> viewers;
+
+    private Location location;
+    private int entityId;
+
+    @Setter private PacketSink sink;
+    @Setter private GameEntityManager manager;
+
+    public VirtualGameEntity(String name, EntityType type, Location location) {
+        this.name = ChatColor.translateAlternateColorCodes('&', name);
+        this.type = type;
+        this.location = location;
+        this.viewers = ConcurrentHashMap.newKeySet();
+        this.entityId = -1;
+    }
+
+    public static synchronized PacketSink getDefaultSink() {
+        if (defaultSink == null)
+            defaultSink = new NmsPacketSink();
+
+        return defaultSink;
+    }
+
+    public PacketSink getSink() {
+        return sink != null ? sink : getDefaultSink();
+    }
+
+    public Consumer<VirtualEntityInteractEvent> interactEvent() {
+        return event -> {};
+    }
+
+    void allocate() {
+        if (entityId == -1) {
+            entityId = getSink().allocate(this);
+            VirtualEntityInterceptor.register(this);
+        }
+    }
+
+    void remove() {
+        getViewerPlayers().forEach(this::hide);
+        getViewers().clear();
+        VirtualEntityInterceptor.unregister(this);
+        getSink().release(getEntityId());
+        entityId = -1;
+    }
+
+    public void show(Player player) {
+        if (getViewers().add(player.getUniqueId())) {
+            VirtualEntityInterceptor.inject(player);
+            getSink().spawn(player, this);
+        }
+    }
+
+    public void hide(Player player) {
+        if (getViewers().remove(player.getUniqueId()))
+            getSink().destroy(player, getEntityId());
+    }
+
+    public void teleport(Location location) {
+        this.location = location;
+        getViewerPlayers().forEach(player -> getSink().teleport(player, this));
+    }
+
+    public boolean isViewer(Player player) {
+        return getViewers().contains(player.getUniqueId());
+    }
+
+    void interact(Player player, boolean attack) {
+        if (!isViewer(player))
+            return;
+
+        VirtualEntityInteractEvent event = new VirtualEntityInteractEvent(this, player, attack);
+        interactEvent().accept(event);
+        Optional.ofNullable(getManager()).map(GameEntityManager::getGame).ifPresent(game -> game.getEventBus().post(event));
+    }
+
+    private List<Player> getViewerPlayers() {
+        return getViewers().stream().map(Bukkit::getPlayer).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+}
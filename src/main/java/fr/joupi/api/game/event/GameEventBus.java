@@ -0,0 +1,94 @@
+package fr.joupi.api.game.event;
+
+import fr.joupi.api.MultiThreading;
+import fr.joupi.api.Utils;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+@Getter
+@Setter
+public class GameEventBus {
+
+    private final Map<Class<?>, List<GameSubscriber<?>>> subscribers;
+
+    private Executor asyncExecutor;
+
+    public GameEventBus() {
+        this.subscribers = new ConcurrentHashMap<>();
+        this.asyncExecutor = MultiThreading.pool;
+    }
+
+    public <E extends Event> GameSubscriber<E> subscribe(Class<E> eventClass, Consumer<E> consumer) {
+        return subscribe(eventClass, EventPriority.NORMAL, consumer);
+    }
+
+    public <E extends Event> GameSubscriber<E> subscribe(Class<E> eventClass, EventPriority priority, Consumer<E> consumer) {
+        return subscribe(new GameSubscriber<>(eventClass, priority, false, consumer));
+    }
+
+    public <E extends Event> GameSubscriber<E> subscribeAsync(Class<E> eventClass, Consumer<E> consumer) {
+        return subscribe(new GameSubscriber<>(eventClass, EventPriority.MONITOR, true, consumer));
+    }
+
+    public synchronized <E extends Event> GameSubscriber<E> subscribe(GameSubscriber<E> subscriber) {
+        List<GameSubscriber<?>> subscribers = getSubscribers().computeIfAbsent(subscriber.getEventClass(), k -> new CopyOnWriteArrayList<>());
+        subscribers.add(subscriber);
+        subscribers.sort(GameSubscriber.ORDER);
+        return subscriber;
+    }
+
+    public synchronized void unsubscribe(GameSubscriber<?> subscriber) {
+        getSubscribers().computeIfPresent(subscriber.getEventClass(), (eventClass, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    public void clear() {
+        getSubscribers().clear();
+    }
+
+    public <E extends Event> E post(E event) {
+        for (Class<?> eventClass = event.getClass(); Event.class.isAssignableFrom(eventClass); eventClass = eventClass.getSuperclass()) {
+            List<GameSubscriber<?>> subscribers = getSubscribers().get(eventClass);
+
+            if (subscribers != null)
+                subscribers.forEach(subscriber -> deliver(subscriber, event));
+        }
+
+        if (hasBukkitListeners(event))
+            Bukkit.getPluginManager().callEvent(event);
+
+        return event;
+    }
+
+    private void deliver(GameSubscriber<?> subscriber, Event event) {
+        if (subscriber.isAsync())
+            getAsyncExecutor().execute(() -> accept(subscriber, event));
+        else
+            accept(subscriber, event);
+    }
+
+    private void accept(GameSubscriber<?> subscriber, Event event) {
+        try {
+            subscriber.accept(event);
+        } catch (Exception exception) {
+            Utils.warn(exception, "EventBus - {0} failed on {1}", subscriber.getConsumer(), event.getEventName());
+        }
+    }
+
+    private boolean hasBukkitListeners(Event event) {
+        return event.getHandlers().getRegisteredListeners().length > 0;
+    }
+
+}
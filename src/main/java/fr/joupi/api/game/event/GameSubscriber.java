@@ -0,0 +1,26 @@
+package fr.joupi.api.game.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+@Getter
+@AllArgsConstructor
+public class GameSubscriber<E extends Event> {
+
+    public static final Comparator<GameSubscriber<?>> ORDER = Comparator.comparing(GameSubscriber::getPriority);
+
+    private final Class<E> eventClass;
+    private final EventPriority priority;
+    private final boolean async;
+    private final Consumer<E> consumer;
+
+    public void accept(Event event) {
+        getConsumer().accept(getEventClass().cast(event));
+    }
+
+}
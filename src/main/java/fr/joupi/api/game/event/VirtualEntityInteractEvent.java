@@ -0,0 +1,29 @@
+package fr.joupi.api.game.event;
+
+import fr.joupi.api.game.entity.VirtualGameEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+
+@Getter
+@AllArgsConstructor
+public class VirtualEntityInteractEvent extends Event {
+
+    private static final HandlerList handlers = new HandlerList();
+
+    private final VirtualGameEntity entity;
+    private final Player player;
+    private final boolean attack;
+
+    @Override
+    public HandlerList getHandlers() {
+        return handlers;
+    }
+
+    public static HandlerList getHandlerList() {
+        return handlers;
+    }
+
+}
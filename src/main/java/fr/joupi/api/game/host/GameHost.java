@@ -1,6 +1,7 @@
 package fr.joupi.api.game.host;
 
 import fr.joupi.api.game.Game;
+import fr.joupi.api.game.GameManager;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Bukkit;
@@ -9,7 +10,9 @@ import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Getter
 @Setter
@@ -31,6 +34,18 @@ public class GameHost<G extends Game<?, ?, ?>> {
         this.coHost = new ArrayList<>();
     }
 
+    public void setHostUuid(UUID hostUuid) {
+        ifIndexed(gameManager -> gameManager.unindexHost(getHostUuid(), getGame()));
+        this.hostUuid = hostUuid;
+        ifIndexed(gameManager -> gameManager.indexHost(getHostUuid(), getGame()));
+    }
+
+    private void ifIndexed(Consumer<GameManager> consumer) {
+        Optional.ofNullable(getGame().getGameManager())
+                .filter(gameManager -> equals(getGame().getGameHost()))
+                .ifPresent(consumer);
+    }
+
     public Player getHostPlayer() {
         return Bukkit.getPlayer(getHostUuid());
     }
@@ -0,0 +1,64 @@
+package fr.joupi.api.game.listener;
+
+import fr.joupi.api.game.Game;
+import fr.joupi.api.game.GameManager;
+import fr.joupi.api.game.phase.AbstractGamePhase;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Getter
+public class GameEventDispatcher implements Listener {
+
+    private final GameManager gameManager;
+
+    private final Map<Class<? extends Event>, GameEventRoute<?>> routes;
+
+    public GameEventDispatcher(GameManager gameManager) {
+        this.gameManager = gameManager;
+        this.routes = new ConcurrentHashMap<>();
+    }
+
+    public <E extends Event> void registerGlobalEvent(AbstractGamePhase<?> phase, Class<E> eventClass, Consumer<E> consumer) {
+        getRoute(eventClass).subscribe(phase, consumer);
+    }
+
+    public <E extends Event> void registerPlayerEvent(AbstractGamePhase<?> phase, Class<E> eventClass, Function<E, Player> function, Consumer<E> consumer) {
+        getRoute(eventClass).subscribe(phase, GameEventScope.PLAYER, function, this::getGame, consumer);
+    }
+
+    public <E extends Event> void registerWorldEvent(AbstractGamePhase<?> phase, Class<E> eventClass, Function<E, World> function, Consumer<E> consumer) {
+        getRoute(eventClass).subscribe(phase, GameEventScope.WORLD, function, this::getGame, consumer);
+    }
+
+    public void unregister(AbstractGamePhase<?> phase) {
+        getRoutes().values().forEach(route -> route.unsubscribe(phase));
+    }
+
+    private Optional<Game<?, ?, ?>> getGame(Player player) {
+        return getGameManager().getGame(player).map(game -> (Game<?, ?, ?>) game);
+    }
+
+    private Optional<Game<?, ?, ?>> getGame(World world) {
+        return getGameManager().getGame(world).map(game -> (Game<?, ?, ?>) game);
+    }
+
+    private <E extends Event> GameEventRoute<E> getRoute(Class<E> eventClass) {
+        return (GameEventRoute<E>) getRoutes().computeIfAbsent(eventClass, k -> {
+            GameEventRoute<E> route = new GameEventRoute<>(eventClass);
+            Bukkit.getPluginManager().registerEvent(eventClass, this, EventPriority.NORMAL, route, getGameManager().getPlugin());
+            return route;
+        });
+    }
+
+}
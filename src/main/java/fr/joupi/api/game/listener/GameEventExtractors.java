@@ -0,0 +1,44 @@
+package fr.joupi.api.game.listener;
+
+import lombok.experimental.UtilityClass;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.block.BlockEvent;
+import org.bukkit.event.entity.EntityEvent;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.world.WorldEvent;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+@UtilityClass
+public class GameEventExtractors {
+
+    private final Function<PlayerEvent, Player> PLAYER = PlayerEvent::getPlayer;
+
+    private final Function<WorldEvent, World> WORLD = WorldEvent::getWorld;
+    private final Function<BlockEvent, World> BLOCK_WORLD = event -> event.getBlock().getWorld();
+    private final Function<EntityEvent, World> ENTITY_WORLD = event -> Optional.ofNullable(event.getEntity()).map(Entity::getWorld).orElse(null);
+
+    @SuppressWarnings("unchecked")
+    public <E extends Event> Optional<Function<E, Player>> getPlayerExtractor(Class<E> eventClass) {
+        return PlayerEvent.class.isAssignableFrom(eventClass) ? Optional.of((Function<E, Player>) (Function<?, ?>) PLAYER) : Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E extends Event> Optional<Function<E, World>> getWorldExtractor(Class<E> eventClass) {
+        if (WorldEvent.class.isAssignableFrom(eventClass))
+            return Optional.of((Function<E, World>) (Function<?, ?>) WORLD);
+
+        if (BlockEvent.class.isAssignableFrom(eventClass))
+            return Optional.of((Function<E, World>) (Function<?, ?>) BLOCK_WORLD);
+
+        if (EntityEvent.class.isAssignableFrom(eventClass))
+            return Optional.of((Function<E, World>) (Function<?, ?>) ENTITY_WORLD);
+
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,110 @@
+package fr.joupi.api.game.listener;
+
+import fr.joupi.api.game.Game;
+import fr.joupi.api.game.phase.AbstractGamePhase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.event.Event;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Getter
+public class GameEventRoute<E extends Event> implements EventExecutor {
+
+    private final Class<E> eventClass;
+
+    private final Map<GameEventScope, Branch<E, ?>> branches;
+    private final List<Subscription<E>> globals;
+
+    private final Map<Class<?>, Function<E, ?>> extractors;
+
+    public GameEventRoute(Class<E> eventClass) {
+        this.eventClass = eventClass;
+        this.branches = new ConcurrentHashMap<>();
+        this.globals = new CopyOnWriteArrayList<>();
+        this.extractors = new ConcurrentHashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K> void subscribe(AbstractGamePhase<?> phase, GameEventScope scope, Function<E, K> extractor, Function<K, Optional<Game<?, ?, ?>>> lookup, Consumer<E> consumer) {
+        ((Branch<E, K>) getBranches().computeIfAbsent(scope, k -> new Branch<>(lookup, new ConcurrentHashMap<>())))
+                .getSubscriptions().computeIfAbsent(getExtractor(extractor), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(phase.getGame(), k -> new CopyOnWriteArrayList<>())
+                .add(new Subscription<>(phase, consumer));
+    }
+
+    public void subscribe(AbstractGamePhase<?> phase, Consumer<E> consumer) {
+        getGlobals().add(new Subscription<>(phase, consumer));
+    }
+
+    public void unsubscribe(AbstractGamePhase<?> phase) {
+        getGlobals().removeIf(subscription -> subscription.getPhase().equals(phase));
+        getBranches().values().forEach(branch -> branch.unsubscribe(phase));
+    }
+
+    int getExtractorCount(GameEventScope scope) {
+        return Optional.ofNullable(getBranches().get(scope)).map(branch -> branch.getSubscriptions().size()).orElse(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K> Function<E, K> getExtractor(Function<E, K> extractor) {
+        boolean stateless = Arrays.stream(extractor.getClass().getDeclaredFields()).allMatch(field -> Modifier.isStatic(field.getModifiers()));
+
+        return stateless ? (Function<E, K>) getExtractors().computeIfAbsent(extractor.getClass(), k -> extractor) : extractor;
+    }
+
+    @Override
+    public void execute(Listener listener, Event event) {
+        if (!getEventClass().isInstance(event))
+            return;
+
+        E typedEvent = getEventClass().cast(event);
+
+        getGlobals().forEach(subscription -> subscription.getConsumer().accept(typedEvent));
+        getBranches().values().forEach(branch -> branch.dispatch(typedEvent));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Branch<E extends Event, K> {
+
+        private final Function<K, Optional<Game<?, ?, ?>>> lookup;
+        private final Map<Function<E, K>, Map<Game<?, ?, ?>, List<Subscription<E>>>> subscriptions;
+
+        public void dispatch(E event) {
+            getSubscriptions().forEach((extractor, games) -> Optional.ofNullable(extractor.apply(event))
+                    .flatMap(getLookup())
+                    .map(games::get)
+                    .ifPresent(subscriptions -> subscriptions.forEach(subscription -> subscription.getConsumer().accept(event))));
+        }
+
+        public void unsubscribe(AbstractGamePhase<?> phase) {
+            getSubscriptions().values().forEach(games -> games.computeIfPresent(phase.getGame(), (game, subscriptions) -> {
+                subscriptions.removeIf(subscription -> subscription.getPhase().equals(phase));
+                return subscriptions.isEmpty() ? null : subscriptions;
+            }));
+            getSubscriptions().values().removeIf(Map::isEmpty);
+        }
+
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Subscription<E extends Event> {
+
+        private final AbstractGamePhase<?> phase;
+        private final Consumer<E> consumer;
+
+    }
+
+}
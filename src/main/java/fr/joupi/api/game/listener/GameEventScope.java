@@ -0,0 +1,8 @@
+package fr.joupi.api.game.listener;
+
+public enum GameEventScope {
+
+    PLAYER,
+    WORLD
+
+}
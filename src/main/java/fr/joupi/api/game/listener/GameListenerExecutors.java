@@ -0,0 +1,113 @@
+package fr.joupi.api.game.listener;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+import org.bukkit.Bukkit;
+import org.bukkit.event.*;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class GameListenerExecutors {
+
+    private final Map<Class<?>, List<HandlerMethod>> handlers = new ConcurrentHashMap<>();
+
+    public void registerEvents(Listener listener, Plugin plugin) {
+        getHandlers(listener.getClass())
+                .forEach(handler -> Bukkit.getPluginManager().registerEvent(handler.getEventClass(), listener, handler.getPriority(), handler.getExecutor(), plugin, handler.isIgnoreCancelled()));
+    }
+
+    public List<HandlerMethod> getHandlers(Class<?> listenerClass) {
+        return handlers.computeIfAbsent(listenerClass, GameListenerExecutors::createHandlers);
+    }
+
+    private List<HandlerMethod> createHandlers(Class<?> listenerClass) {
+        Set<Method> methods = new LinkedHashSet<>(Arrays.asList(listenerClass.getMethods()));
+        methods.addAll(Arrays.asList(listenerClass.getDeclaredMethods()));
+
+        return methods.stream()
+                .filter(method -> method.isAnnotationPresent(EventHandler.class))
+                .filter(method -> !method.isBridge() && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers()))
+                .filter(method -> method.getParameterCount() == 1 && Event.class.isAssignableFrom(method.getParameterTypes()[0]))
+                .map(GameListenerExecutors::createHandler)
+                .collect(Collectors.toList());
+    }
+
+    private HandlerMethod createHandler(Method method) {
+        EventHandler annotation = method.getAnnotation(EventHandler.class);
+        Class<? extends Event> eventClass = method.getParameterTypes()[0].asSubclass(Event.class);
+        BiConsumer<Object, Object> invoker = createInvoker(method, true);
+
+        EventExecutor executor = (listener, event) -> {
+            if (!eventClass.isInstance(event))
+                return;
+
+            try {
+                invoker.accept(listener, event);
+            } catch (Throwable throwable) {
+                throw new EventException(throwable);
+            }
+        };
+
+        return new HandlerMethod(eventClass, annotation.priority(), annotation.ignoreCancelled(), executor);
+    }
+
+    BiConsumer<Object, Object> createInvoker(Method method, boolean generate) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(method);
+
+            return generate ? generateInvoker(lookup, handle).orElseGet(() -> createHandleInvoker(handle)) : createHandleInvoker(handle);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException("Cannot access event handler " + method, exception);
+        }
+    }
+
+    private Optional<BiConsumer<Object, Object>> generateInvoker(MethodHandles.Lookup lookup, MethodHandle handle) {
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle, handle.type().changeReturnType(void.class));
+
+            return Optional.of((BiConsumer<Object, Object>) callSite.getTarget().invokeExact());
+        } catch (Throwable throwable) {
+            return Optional.empty();
+        }
+    }
+
+    private BiConsumer<Object, Object> createHandleInvoker(MethodHandle handle) {
+        MethodHandle invoker = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+        return (listener, event) -> {
+            try {
+                invoker.invokeExact(listener, event);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        };
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public class HandlerMethod {
+
+        private final Class<? extends Event> eventClass;
+        private final EventPriority priority;
+        private final boolean ignoreCancelled;
+        private final EventExecutor executor;
+
+    }
+
+}
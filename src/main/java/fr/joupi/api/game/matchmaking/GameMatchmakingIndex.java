@@ -0,0 +1,101 @@
+package fr.joupi.api.game.matchmaking;
+
+import fr.joupi.api.game.Game;
+import fr.joupi.api.game.GameState;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Getter
+public class GameMatchmakingIndex {
+
+    private final ConcurrentMap<String, Map<GameState, NavigableSet<GameSlot>>> slots;
+    private final ConcurrentMap<Game<?, ?, ?>, GameSlot> entries;
+    private final ConcurrentMap<Game<?, ?, ?>, Integer> reservations;
+
+    public GameMatchmakingIndex() {
+        this.slots = new ConcurrentHashMap<>();
+        this.entries = new ConcurrentHashMap<>();
+        this.reservations = new ConcurrentHashMap<>();
+    }
+
+    public synchronized void update(String gameName, Game<?, ?, ?> game) {
+        unindex(game);
+        GameSlot slot = new GameSlot(gameName, game, getReserved(game));
+        getEntries().put(game, slot);
+        getSlots(gameName, slot.getState()).add(slot);
+    }
+
+    public synchronized void remove(Game<?, ?, ?> game) {
+        unindex(game);
+        getReservations().remove(game);
+    }
+
+    public synchronized void reserve(Game<?, ?, ?> game, int amount) {
+        getReservations().merge(game, amount, Integer::sum);
+        reindex(game);
+    }
+
+    public synchronized void release(Game<?, ?, ?> game, int amount) {
+        getReservations().computeIfPresent(game, (k, reserved) -> reserved > amount ? reserved - amount : null);
+        reindex(game);
+    }
+
+    public int getReserved(Game<?, ?, ?> game) {
+        return getReservations().getOrDefault(game, 0);
+    }
+
+    private void reindex(Game<?, ?, ?> game) {
+        Optional.ofNullable(getEntries().get(game)).ifPresent(slot -> update(slot.getGameName(), game));
+    }
+
+    private void unindex(Game<?, ?, ?> game) {
+        Optional.ofNullable(getEntries().remove(game))
+                .ifPresent(slot -> getSlots(slot.getGameName(), slot.getState()).remove(slot));
+    }
+
+    public Optional<Game<?, ?, ?>> find(String gameName, GameState state, int size, MatchmakingPolicy policy) {
+        return findSlot(gameName, state, size, policy).map(GameSlot::getGame);
+    }
+
+    public Optional<GameSlot> findSlot(String gameName, GameState state, int size, MatchmakingPolicy policy) {
+        NavigableSet<GameSlot> slots = getSlots(gameName, state);
+
+        switch (policy) {
+            case SPREAD:
+                return getEmptiest(slots).filter(slot -> slot.canFit(size));
+            case PARTY_FIT:
+                return Optional.ofNullable(slots.ceiling(GameSlot.probe(size)))
+                        .filter(slot -> slot.getFreeSlots() == size)
+                        .or(() -> getEmptiest(slots).filter(slot -> slot.canFit(size)));
+            default:
+                return Optional.ofNullable(slots.ceiling(GameSlot.probe(size)));
+        }
+    }
+
+    public Optional<Game<?, ?, ?>> getFullest(String gameName, GameState state) {
+        return getSlots(gameName, state).stream().findFirst().map(GameSlot::getGame);
+    }
+
+    public Optional<Game<?, ?, ?>> getEmptiest(String gameName, GameState state) {
+        return getEmptiest(getSlots(gameName, state)).map(GameSlot::getGame);
+    }
+
+    private Optional<GameSlot> getEmptiest(NavigableSet<GameSlot> slots) {
+        return slots.descendingSet().stream().findFirst();
+    }
+
+    public NavigableSet<GameSlot> getSlots(String gameName, GameState state) {
+        return getSlots().computeIfAbsent(gameName, k -> createStates()).get(state);
+    }
+
+    private Map<GameState, NavigableSet<GameSlot>> createStates() {
+        Map<GameState, NavigableSet<GameSlot>> states = new EnumMap<>(GameState.class);
+        Arrays.stream(GameState.values()).forEach(state -> states.put(state, new ConcurrentSkipListSet<>(GameSlot.ORDER)));
+        return states;
+    }
+
+}
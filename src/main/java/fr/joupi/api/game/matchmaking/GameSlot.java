@@ -0,0 +1,35 @@
+package fr.joupi.api.game.matchmaking;
+
+import fr.joupi.api.game.Game;
+import fr.joupi.api.game.GameState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Comparator;
+
+@Getter
+@AllArgsConstructor
+public class GameSlot {
+
+    public static final Comparator<GameSlot> ORDER = Comparator.comparingInt(GameSlot::getFreeSlots)
+            .thenComparing(Comparator.comparingInt(GameSlot::getPlayers).reversed())
+            .thenComparing(GameSlot::getId);
+
+    private final String gameName, id;
+    private final Game<?, ?, ?> game;
+    private final GameState state;
+    private final int freeSlots, players;
+
+    public GameSlot(String gameName, Game<?, ?, ?> game, int reserved) {
+        this(gameName, game.getId(), game, game.getState(), game.getSettings().getGameSize().getMaxPlayer() - game.getAlivePlayersCount() - reserved, game.getSize());
+    }
+
+    public static GameSlot probe(int freeSlots) {
+        return new GameSlot(null, "", null, null, freeSlots, Integer.MAX_VALUE);
+    }
+
+    public boolean canFit(int size) {
+        return getFreeSlots() >= size;
+    }
+
+}
@@ -0,0 +1,175 @@
+package fr.joupi.api.game.matchmaking;
+
+import fr.joupi.api.Utils;
+import fr.joupi.api.game.Game;
+import fr.joupi.api.game.GameManager;
+import fr.joupi.api.game.GameState;
+import fr.joupi.api.game.party.GameParty;
+import fr.joupi.api.game.utils.GameTicker;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Getter
+@Setter
+public class MatchmakingEngine {
+
+    private final GameManager gameManager;
+
+    private final Queue<MatchmakingRequest> intake;
+    private final Map<String, List<MatchmakingRequest>> pending;
+    private final Deque<MatchmakingJoin> joins;
+    private final Set<UUID> queued;
+
+    private final MatchmakingMetrics metrics;
+    private final MatchmakingListener listener;
+
+    private BukkitTask task;
+    private int joinBudget;
+
+    public MatchmakingEngine(GameManager gameManager) {
+        this.gameManager = gameManager;
+        this.intake = new ConcurrentLinkedQueue<>();
+        this.pending = new LinkedHashMap<>();
+        this.joins = new ArrayDeque<>();
+        this.queued = ConcurrentHashMap.newKeySet();
+        this.metrics = new MatchmakingMetrics();
+        this.listener = new MatchmakingListener(this);
+        this.joinBudget = 20;
+    }
+
+    public void start() {
+        setTask(GameTicker.runTimer(GameTicker.GLOBAL, task -> tick(), 1L, 1L));
+        Bukkit.getPluginManager().registerEvents(getListener(), getGameManager().getPlugin());
+    }
+
+    public void stop() {
+        Optional.ofNullable(getTask()).ifPresent(BukkitTask::cancel);
+        setTask(null);
+        HandlerList.unregisterAll(getListener());
+    }
+
+    public void submit(Player player, String gameName) {
+        List<UUID> players = getGameManager().getPartyManager().getPartyLedByPlayer(player)
+                .map(GameParty::getMembers)
+                .map(ArrayList::new)
+                .orElseGet(() -> new ArrayList<>(Collections.singletonList(player.getUniqueId())));
+
+        players.removeIf(uuid -> !getQueued().add(uuid));
+
+        if (!players.isEmpty()) {
+            getIntake().add(new MatchmakingRequest(gameName, players));
+            getMetrics().onRequest();
+        }
+    }
+
+    public void cancel(UUID uuid) {
+        getQueued().remove(uuid);
+    }
+
+    public boolean isQueued(UUID uuid) {
+        return getQueued().contains(uuid);
+    }
+
+    public int getPendingPlayers(String gameName) {
+        return getPending().getOrDefault(gameName, Collections.emptyList()).stream()
+                .mapToInt(MatchmakingRequest::getSize).sum();
+    }
+
+    public void tick() {
+        drainIntake();
+        getPending().forEach(this::solve);
+        getPending().values().removeIf(List::isEmpty);
+        runJoins();
+    }
+
+    private void drainIntake() {
+        MatchmakingRequest request;
+
+        while ((request = getIntake().poll()) != null)
+            getPending().computeIfAbsent(request.getGameName(), k -> new ArrayList<>()).add(request);
+    }
+
+    private void solve(String gameName, List<MatchmakingRequest> requests) {
+        requests.forEach(request -> request.getPlayers().removeIf(uuid -> !isQueued(uuid)));
+        requests.removeIf(request -> request.getPlayers().isEmpty());
+        requests.sort(Comparator.comparingInt(MatchmakingRequest::getSize).reversed());
+        requests.removeIf(request -> place(gameName, request));
+    }
+
+    private boolean place(String gameName, MatchmakingRequest request) {
+        Optional<Game<?, ?, ?>> game = findGame(gameName, request.getSize());
+
+        game.ifPresent(target -> {
+            request.getPlayers().forEach(uuid -> getJoins().add(new MatchmakingJoin(uuid, target, request)));
+            getIndex().reserve(target, request.getSize());
+        });
+
+        if (game.isEmpty() && !request.isWaiting()) {
+            request.setWaiting(true);
+            Utils.debug("NO GAME AVAILABLE, A NEW GAME IS STARTING FOR {0} PLAYER(S) IN {1}", request.getSize(), gameName);
+        }
+
+        return game.isPresent();
+    }
+
+    private Optional<Game<?, ?, ?>> findGame(String gameName, int size) {
+        return Optional.ofNullable(getIndex().getSlots(gameName, GameState.WAIT).ceiling(GameSlot.probe(size)))
+                .map(GameSlot::getGame);
+    }
+
+    private GameMatchmakingIndex getIndex() {
+        return getGameManager().getMatchmakingIndex();
+    }
+
+    private void runJoins() {
+        for (int i = 0; i < getJoinBudget() && !getJoins().isEmpty(); i++)
+            join(getJoins().poll());
+    }
+
+    private void join(MatchmakingJoin join) {
+        Game<?, ?, ?> game = join.getGame();
+        Player player = Bukkit.getPlayer(join.getUuid());
+
+        getIndex().release(game, 1);
+
+        if (!getQueued().remove(join.getUuid()) || player == null) {
+            getMetrics().onDropped();
+            return;
+        }
+
+        if (game.getGameManager() != null && game.getState().equals(GameState.WAIT) && game.canJoin()) {
+            getGameManager().joinGame(game, player);
+            getMetrics().onPlaced(join.getRequest());
+        } else {
+            getQueued().add(join.getUuid());
+            requeue(join);
+        }
+    }
+
+    private void requeue(MatchmakingJoin join) {
+        MatchmakingRequest request = join.getRequest();
+        List<UUID> players = new ArrayList<>(Collections.singletonList(join.getUuid()));
+        Iterator<MatchmakingJoin> iterator = getJoins().iterator();
+
+        while (iterator.hasNext()) {
+            MatchmakingJoin other = iterator.next();
+
+            if (other.getRequest() == request) {
+                iterator.remove();
+                getIndex().release(other.getGame(), 1);
+                players.add(other.getUuid());
+            }
+        }
+
+        getIntake().add(new MatchmakingRequest(request.getGameName(), players, request.getCreatedAt()));
+    }
+
+}
@@ -0,0 +1,17 @@
+package fr.joupi.api.game.matchmaking;
+
+import fr.joupi.api.game.Game;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class MatchmakingJoin {
+
+    private final UUID uuid;
+    private final Game<?, ?, ?> game;
+    private final MatchmakingRequest request;
+
+}
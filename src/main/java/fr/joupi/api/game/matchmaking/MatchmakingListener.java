@@ -0,0 +1,19 @@
+package fr.joupi.api.game.matchmaking;
+
+import lombok.AllArgsConstructor;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+@AllArgsConstructor
+public class MatchmakingListener implements Listener {
+
+    private final MatchmakingEngine engine;
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        engine.cancel(event.getPlayer().getUniqueId());
+    }
+
+}
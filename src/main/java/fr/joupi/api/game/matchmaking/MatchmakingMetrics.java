@@ -0,0 +1,52 @@
+package fr.joupi.api.game.matchmaking;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Getter
+public class MatchmakingMetrics {
+
+    private final LongAdder requests, placed, dropped, waitTime;
+    private final AtomicLong maxWaitTime;
+
+    public MatchmakingMetrics() {
+        this.requests = new LongAdder();
+        this.placed = new LongAdder();
+        this.dropped = new LongAdder();
+        this.waitTime = new LongAdder();
+        this.maxWaitTime = new AtomicLong();
+    }
+
+    public void onRequest() {
+        getRequests().increment();
+    }
+
+    public void onPlaced(MatchmakingRequest request) {
+        long waitingTime = request.getWaitingTime();
+        getPlaced().increment();
+        getWaitTime().add(waitingTime);
+        getMaxWaitTime().accumulateAndGet(waitingTime, Math::max);
+    }
+
+    public void onDropped() {
+        getDropped().increment();
+    }
+
+    public long getAverageWaitTime(TimeUnit unit) {
+        long placed = getPlaced().sum();
+        return placed == 0 ? 0 : unit.convert(getWaitTime().sum() / placed, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxWaitTime(TimeUnit unit) {
+        return unit.convert(getMaxWaitTime().get(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("requests=%d, placed=%d, dropped=%d, avgWait=%dms, maxWait=%dms", getRequests().sum(), getPlaced().sum(), getDropped().sum(), getAverageWaitTime(TimeUnit.MILLISECONDS), getMaxWaitTime(TimeUnit.MILLISECONDS));
+    }
+
+}
@@ -0,0 +1,9 @@
+package fr.joupi.api.game.matchmaking;
+
+public enum MatchmakingPolicy {
+
+    FILL_FIRST,
+    SPREAD,
+    PARTY_FIT;
+
+}
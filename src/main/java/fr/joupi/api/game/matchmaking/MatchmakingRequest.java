@@ -0,0 +1,38 @@
+package fr.joupi.api.game.matchmaking;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+public class MatchmakingRequest {
+
+    private final String gameName;
+    private final List<UUID> players;
+    private final long createdAt;
+
+    private boolean waiting;
+
+    public MatchmakingRequest(String gameName, List<UUID> players) {
+        this(gameName, players, System.nanoTime());
+    }
+
+    public MatchmakingRequest(String gameName, List<UUID> players, long createdAt) {
+        this.gameName = gameName;
+        this.players = players;
+        this.createdAt = createdAt;
+        this.waiting = false;
+    }
+
+    public int getSize() {
+        return getPlayers().size();
+    }
+
+    public long getWaitingTime() {
+        return System.nanoTime() - getCreatedAt();
+    }
+
+}
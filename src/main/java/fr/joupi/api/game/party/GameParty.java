@@ -1,5 +1,6 @@
 package fr.joupi.api.game.party;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Bukkit;
@@ -7,6 +8,7 @@ import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -21,20 +23,32 @@ public class GameParty {
     
     private final List<UUID> members;
 
+    @Setter(AccessLevel.NONE)
+    private Consumer<UUID> joinIndex, leaveIndex;
+
     public GameParty(UUID leader) {
         this.leader = leader;
         this.name = "Partie de " + Bukkit.getPlayer(leader).getName();
         this.maxMembers = 5;
         this.opened = false;
         this.members = new ArrayList<>(Collections.singletonList(leader));
+        this.joinIndex = uuid -> {};
+        this.leaveIndex = uuid -> {};
+    }
+
+    public void bindIndex(Consumer<UUID> joinIndex, Consumer<UUID> leaveIndex) {
+        this.joinIndex = joinIndex;
+        this.leaveIndex = leaveIndex;
     }
 
     public void addMember(UUID uuid) {
         getMembers().add(uuid);
+        joinIndex.accept(uuid);
     }
 
     public void removeMember(UUID uuid) {
-        getMembers().remove(uuid);
+        if (getMembers().remove(uuid))
+            leaveIndex.accept(uuid);
     }
 
     public boolean isMember(UUID uuid) {
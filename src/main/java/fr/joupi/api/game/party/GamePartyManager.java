@@ -3,10 +3,12 @@ package fr.joupi.api.game.party;
 import com.google.common.collect.ImmutableList;
 import fr.joupi.api.Utils;
 import fr.joupi.api.game.GameManager;
+import fr.joupi.api.game.utils.GameTicker;
 import lombok.Getter;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Getter
@@ -16,11 +18,13 @@ public class GamePartyManager {
 
     private final List<GameParty> parties;
     private final List<GamePartyRequest> requests;
+    private final Map<UUID, GameParty> memberParties;
 
     public GamePartyManager(GameManager gameManager) {
         this.gameManager = gameManager;
         this.parties = new ArrayList<>();
         this.requests = new ArrayList<>();
+        this.memberParties = new ConcurrentHashMap<>();
     }
 
     public Optional<GameParty> getParty(Player player) {
@@ -28,7 +32,7 @@ public class GamePartyManager {
     }
 
     public Optional<GameParty> getParty(UUID uuid) {
-        return getParties().stream().filter(gameParty -> gameParty.isMember(uuid)).findFirst();
+        return Optional.ofNullable(getMemberParties().get(uuid));
     }
 
     public Optional<GameParty> getPartyLedByPlayer(Player player) {
@@ -50,6 +54,8 @@ public class GamePartyManager {
     public void addParty(GameParty gameParty) {
         Utils.ifEmpty(getParty(gameParty.getLeader()), () -> {
             getParties().add(gameParty);
+            gameParty.bindIndex(uuid -> getMemberParties().put(uuid, gameParty), uuid -> getMemberParties().remove(uuid, gameParty));
+            gameParty.getMembers().forEach(uuid -> getMemberParties().put(uuid, gameParty));
             Utils.debug("Party - party of {0} has been added with name ({1}) and {2} max players",  gameParty.getPlayer().getName(), gameParty.getName(), gameParty.getMaxMembers());
         });
     }
@@ -60,6 +66,8 @@ public class GamePartyManager {
 
     public void removeParty(GameParty gameParty) {
         getParties().remove(gameParty);
+        gameParty.getMembers().forEach(uuid -> getMemberParties().remove(uuid, gameParty));
+        gameParty.bindIndex(uuid -> {}, uuid -> {});
         Utils.debug("Party - party of {0} has been removed", gameParty.getPlayer().getName());
     }
 
@@ -93,16 +101,22 @@ public class GamePartyManager {
 
     public void onLeave(Player player) {
         leaveParty(player);
-        getAllRequests(player.getUniqueId()).forEach(getRequests()::remove);
+        getAllRequests(player.getUniqueId()).forEach(this::removeRequest);
     }
 
     public void addRequest(UUID sender, UUID target) {
-        getRequests().add(new GamePartyRequest(sender, target));
-        scheduleRequest(sender, target);
+        GamePartyRequest request = new GamePartyRequest(sender, target);
+        getRequests().add(request);
+        scheduleRequest(request);
     }
 
     public void removeRequest(UUID sender, UUID target) {
-        getOutgoingRequests(sender).stream().filter(request -> request.getTarget().equals(target)).findFirst().ifPresent(getRequests()::remove);
+        getRequest(sender, target).ifPresent(this::removeRequest);
+    }
+
+    public void removeRequest(GamePartyRequest request) {
+        request.cancelTimeout();
+        getRequests().remove(request);
     }
 
     public void sendRequest(Player sender, Player target) {
@@ -124,9 +138,8 @@ public class GamePartyManager {
                 }, () -> leader.sendMessage("Aucune invitation trouvée pour " + invited.getName() + "."));
     }
 
-    private void scheduleRequest(UUID sender, UUID target) {
-        getGameManager().getPlugin().getServer().getScheduler().runTaskLaterAsynchronously(getGameManager().getPlugin(),
-                () -> getRequest(sender, target).ifPresent(getRequests()::remove), 100);
+    private void scheduleRequest(GamePartyRequest request) {
+        request.setTimeout(GameTicker.getTimer().schedule(() -> getRequests().remove(request), 100));
     }
 
     public List<GameParty> getReachableParty() {
@@ -170,7 +183,7 @@ public class GamePartyManager {
     }
 
     public boolean isInParty(Player player) {
-        return getParties().stream().map(GameParty::getMembers).anyMatch(uuids -> uuids.contains(player.getUniqueId()));
+        return getMemberParties().containsKey(player.getUniqueId());
     }
 
     public void sendInvitationsDebug(Player player) {
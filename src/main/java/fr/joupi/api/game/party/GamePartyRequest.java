@@ -1,18 +1,28 @@
 package fr.joupi.api.game.party;
 
-import lombok.AllArgsConstructor;
+import fr.joupi.api.WheelTimeout;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Getter
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class GamePartyRequest {
 
     private final UUID sender, target;
 
+    @Setter
+    private WheelTimeout timeout;
+
+    public void cancelTimeout() {
+        Optional.ofNullable(getTimeout()).ifPresent(WheelTimeout::cancel);
+    }
+
     public Player getSenderPlayer() {
         return Bukkit.getPlayer(getSender());
     }
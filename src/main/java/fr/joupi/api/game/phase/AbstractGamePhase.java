@@ -2,10 +2,15 @@ package fr.joupi.api.game.phase;
 
 import fr.joupi.api.Utils;
 import fr.joupi.api.game.utils.GameRunnable;
+import fr.joupi.api.game.utils.GameTicker;
 import fr.joupi.api.game.listener.EventListenerWrapper;
 import fr.joupi.api.game.Game;
+import fr.joupi.api.game.GameManager;
+import fr.joupi.api.game.listener.GameEventDispatcher;
+import fr.joupi.api.game.listener.GameEventExtractors;
 import lombok.Getter;
 import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
@@ -28,6 +33,8 @@ public abstract class AbstractGamePhase<G extends Game<?, ?, ?>> implements Game
     private final List<Listener> events;
     private final List<BukkitTask> tasks;
 
+    private GameEventDispatcher eventDispatcher;
+
     public AbstractGamePhase(G game) {
         this.game = game;
         this.events = new ArrayList<>();
@@ -51,6 +58,7 @@ public abstract class AbstractGamePhase<G extends Game<?, ?, ?>> implements Game
     }
 
     public void unregister() {
+        Optional.ofNullable(getEventDispatcher()).ifPresent(dispatcher -> dispatcher.unregister(this));
         getEvents().forEach(HandlerList::unregisterAll);
         getTasks().forEach(BukkitTask::cancel);
 
@@ -59,21 +67,54 @@ public abstract class AbstractGamePhase<G extends Game<?, ?, ?>> implements Game
     }
 
     public <EventType extends Event> void registerEvent(Class<EventType> eventClass, Consumer<EventType> consumer) {
+        Utils.ifPresentOrElse(GameEventExtractors.getPlayerExtractor(eventClass),
+                function -> registerEvent(eventClass, function, consumer),
+                () -> Utils.ifPresentOrElse(GameEventExtractors.getWorldExtractor(eventClass),
+                        function -> registerWorldEvent(eventClass, function, consumer),
+                        () -> registerGlobalEvent(eventClass, consumer)));
+    }
+
+    public <EventType extends Event> void registerGlobalEvent(Class<EventType> eventClass, Consumer<EventType> consumer) {
         registerEvent(eventClass, null, consumer);
     }
 
     public <EventType extends Event> void registerEvent(Class<EventType> eventClass, Function<EventType, Player> function, Consumer<EventType> consumer) {
+        Utils.ifPresentOrElse(getDispatcher(),
+                dispatcher -> {
+                    if (function == null) dispatcher.registerGlobalEvent(this, eventClass, consumer);
+                    else dispatcher.registerPlayerEvent(this, eventClass, function, consumer);
+                },
+                () -> registerBukkitEvent(eventClass, eventExecutor(eventClass, function, consumer), consumer));
+    }
+
+    public <EventType extends Event> void registerWorldEvent(Class<EventType> eventClass, Function<EventType, World> function, Consumer<EventType> consumer) {
+        Utils.ifPresentOrElse(getDispatcher(),
+                dispatcher -> dispatcher.registerWorldEvent(this, eventClass, function, consumer),
+                () -> registerBukkitEvent(eventClass, worldEventExecutor(eventClass, function, consumer), consumer));
+    }
+
+    private Optional<GameEventDispatcher> getDispatcher() {
+        Optional.ofNullable(getGame().getGameManager()).map(GameManager::getEventDispatcher).ifPresent(dispatcher -> eventDispatcher = dispatcher);
+        return Optional.ofNullable(getEventDispatcher());
+    }
+
+    private <EventType extends Event> void registerBukkitEvent(Class<EventType> eventClass, EventExecutor executor, Consumer<EventType> consumer) {
         EventListenerWrapper<EventType> wrapper = new EventListenerWrapper<>(consumer);
 
-        Bukkit.getPluginManager().registerEvent(eventClass, wrapper, EventPriority.NORMAL, eventExecutor(function, consumer), getGame().getPlugin());
+        Bukkit.getPluginManager().registerEvent(eventClass, wrapper, EventPriority.NORMAL, executor, getGame().getPlugin());
         getEvents().add(wrapper);
     }
 
-    private <EventType extends Event> EventExecutor eventExecutor(Function<EventType, Player> function, Consumer<EventType> consumer) {
-        return (listener, event) ->
-                Utils.ifPresentOrElse(Optional.ofNullable(function.apply((EventType) event)).filter(this::canTriggerEvent),
-                        uuid -> consumer.accept((EventType) event),
-                        () -> consumer.accept((EventType) event));
+    private <EventType extends Event> EventExecutor eventExecutor(Class<EventType> eventClass, Function<EventType, Player> function, Consumer<EventType> consumer) {
+        return (listener, event) -> Optional.of(event).filter(eventClass::isInstance).map(eventClass::cast)
+                .filter(typedEvent -> function == null || Optional.ofNullable(function.apply(typedEvent)).filter(this::canTriggerEvent).isPresent())
+                .ifPresent(consumer);
+    }
+
+    private <EventType extends Event> EventExecutor worldEventExecutor(Class<EventType> eventClass, Function<EventType, World> function, Consumer<EventType> consumer) {
+        return (listener, event) -> Optional.of(event).filter(eventClass::isInstance).map(eventClass::cast)
+                .filter(typedEvent -> Optional.ofNullable(function.apply(typedEvent)).filter(getGame().getSettings().getWorld()::equals).isPresent())
+                .ifPresent(consumer);
     }
 
     public boolean canTriggerEvent(UUID uuid) {
@@ -85,7 +126,7 @@ public abstract class AbstractGamePhase<G extends Game<?, ?, ?>> implements Game
     }
 
     public void scheduleSyncTask(Consumer<BukkitTask> task, long delay) {
-        getTasks().add(new GameRunnable(task).runTaskLater(getGame(), delay));
+        getTasks().add(GameTicker.runLater(getGame(), task, delay));
     }
 
     public void scheduleAsyncTask(Consumer<BukkitTask> task, long delay) {
@@ -93,7 +134,7 @@ public abstract class AbstractGamePhase<G extends Game<?, ?, ?>> implements Game
     }
 
     public void scheduleRepeatingTask(Consumer<BukkitTask> task, long delay, long period) {
-        getTasks().add(new GameRunnable(task).runTaskTimer(getGame(), delay, period));
+        getTasks().add(GameTicker.runTimer(getGame(), task, delay, period));
     }
 
 }
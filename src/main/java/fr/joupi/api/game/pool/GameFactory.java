@@ -0,0 +1,10 @@
+package fr.joupi.api.game.pool;
+
+import fr.joupi.api.game.Game;
+
+@FunctionalInterface
+public interface GameFactory<G extends Game<?, ?, ?>> {
+
+    G create();
+
+}
@@ -0,0 +1,112 @@
+package fr.joupi.api.game.pool;
+
+import fr.joupi.api.Utils;
+import fr.joupi.api.game.Game;
+import fr.joupi.api.game.GameManager;
+import fr.joupi.api.game.GameState;
+import fr.joupi.api.game.utils.GameTicker;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+@Getter
+@Setter
+public class GamePool {
+
+    private final GameManager gameManager;
+
+    private final ConcurrentMap<String, GamePoolEntry> entries;
+
+    private BukkitTask task;
+    private int maxCreatePerTick;
+
+    public GamePool(GameManager gameManager) {
+        this.gameManager = gameManager;
+        this.entries = new ConcurrentHashMap<>();
+        this.maxCreatePerTick = 1;
+    }
+
+    public void start() {
+        setTask(GameTicker.runTimer(GameTicker.GLOBAL, task -> tick(), 1L, 1L));
+    }
+
+    public void stop() {
+        Optional.ofNullable(getTask()).ifPresent(BukkitTask::cancel);
+        setTask(null);
+    }
+
+    public GamePoolEntry register(String gameName, GameFactory<?> factory, int minReady) {
+        return register(gameName, factory, minReady, minReady);
+    }
+
+    public GamePoolEntry register(String gameName, GameFactory<?> factory, int minReady, int maxIdle) {
+        GamePoolEntry entry = new GamePoolEntry(gameName, factory, minReady, maxIdle);
+        getEntries().put(gameName, entry);
+        Utils.debug("Pool - {0} registered with {1} ready instance(s)", gameName, minReady);
+        return entry;
+    }
+
+    public void unregister(String gameName) {
+        getEntries().remove(gameName);
+    }
+
+    public Optional<GamePoolEntry> getEntry(String gameName) {
+        return Optional.ofNullable(getEntries().get(gameName));
+    }
+
+    public void tick() {
+        int[] budget = { getMaxCreatePerTick() };
+        getEntries().values().forEach(entry -> budget[0] -= scale(entry, budget[0]));
+    }
+
+    private int scale(GamePoolEntry entry, int budget) {
+        int ready = getReadyCount(entry.getGameName());
+        int desired = entry.getDesired(getGameManager().getMatchmakingEngine().getPendingPlayers(entry.getGameName()));
+        int created = Math.max(0, Math.min(desired - ready, budget));
+
+        for (int i = 0; i < created; i++)
+            create(entry);
+
+        if (ready > desired + entry.getMaxIdle())
+            retire(entry, ready - desired);
+
+        return created;
+    }
+
+    public Game<?, ?, ?> create(GamePoolEntry entry) {
+        Game<?, ?, ?> game = entry.getFactory().create();
+        entry.setMaxPlayer(Math.max(1, game.getSettings().getGameSize().getMaxPlayer()));
+        getGameManager().addGame(entry.getGameName(), game);
+        Utils.debug("Pool - new instance {0} ready", game.getFullName());
+        return game;
+    }
+
+    private void retire(GamePoolEntry entry, int surplus) {
+        getIdleGames(entry.getGameName()).stream().limit(surplus).forEach(game -> {
+            game.endGame(getGameManager());
+            Utils.debug("Pool - idle instance {0} retired", game.getFullName());
+        });
+    }
+
+    public int getReadyCount(String gameName) {
+        return (int) getGameManager().getMatchmakingIndex().getSlots(gameName, GameState.WAIT).descendingSet().stream()
+                .takeWhile(slot -> slot.getPlayers() == 0)
+                .count();
+    }
+
+    public List<Game<?, ?, ?>> getIdleGames(String gameName) {
+        return getGameManager().getEmptyGames().stream()
+                .map(game -> (Game<?, ?, ?>) game)
+                .filter(game -> getGameManager().getGameName(game).filter(gameName::equals).isPresent())
+                .filter(game -> game.getState().equals(GameState.WAIT))
+                .filter(game -> !game.isGameHost() && game.getSize() == 0)
+                .collect(Collectors.toList());
+    }
+
+}
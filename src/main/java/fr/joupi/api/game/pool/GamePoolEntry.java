@@ -0,0 +1,27 @@
+package fr.joupi.api.game.pool;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class GamePoolEntry {
+
+    private final String gameName;
+    private final GameFactory<?> factory;
+
+    private int minReady, maxIdle, maxPlayer;
+
+    public GamePoolEntry(String gameName, GameFactory<?> factory, int minReady, int maxIdle) {
+        this.gameName = gameName;
+        this.factory = factory;
+        this.minReady = minReady;
+        this.maxIdle = maxIdle;
+        this.maxPlayer = 1;
+    }
+
+    public int getDesired(int pendingPlayers) {
+        return getMinReady() + (pendingPlayers + getMaxPlayer() - 1) / getMaxPlayer();
+    }
+
+}
@@ -0,0 +1,47 @@
+package fr.joupi.api.game.queue;
+
+import fr.joupi.api.game.GameQueue;
+import fr.joupi.api.game.utils.GameTicker;
+import fr.joupi.api.game.utils.TickTask;
+import lombok.experimental.UtilityClass;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@UtilityClass
+public class GameQueueDispatcher {
+
+    private final Set<GameQueue<?>> queues = ConcurrentHashMap.newKeySet();
+
+    private TickTask task;
+
+    public synchronized void register(GameQueue<?> queue) {
+        queues.add(queue);
+
+        if (task == null || task.isCancelled())
+            task = GameTicker.runTimer(GameTicker.GLOBAL, bukkitTask -> dispatch(), 20L, 20L);
+    }
+
+    public synchronized void unregister(GameQueue<?> queue) {
+        queues.remove(queue);
+
+        if (queues.isEmpty()) {
+            Optional.ofNullable(task).ifPresent(TickTask::cancel);
+            task = null;
+        }
+    }
+
+    public void dispatch() {
+        queues.stream().filter(queue -> !queue.isEmpty()).forEach(GameQueue::update);
+    }
+
+    public int getQueuedCount() {
+        return queues.stream().mapToInt(GameQueue::getSize).sum();
+    }
+
+    public Set<GameQueue<?>> getQueues() {
+        return queues;
+    }
+
+}
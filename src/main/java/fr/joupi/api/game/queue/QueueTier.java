@@ -0,0 +1,28 @@
+package fr.joupi.api.game.queue;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+
+@Getter
+@AllArgsConstructor
+public enum QueueTier {
+
+    STAFF("skyly.queue.staff", 8),
+    VIP("skyly.queue.vip", 4),
+    PARTY(null, 2),
+    DEFAULT(null, 1);
+
+    private final String permission;
+    private final int weight;
+
+    public static QueueTier of(Player player, boolean inParty) {
+        return Arrays.stream(values())
+                .filter(tier -> tier.getPermission() != null && player.hasPermission(tier.getPermission()))
+                .findFirst()
+                .orElse(inParty ? PARTY : DEFAULT);
+    }
+
+}
@@ -0,0 +1,240 @@
+package fr.joupi.api.game.queue;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+public class RankedQueue<E> {
+
+    private final Map<E, Node<E>> nodes;
+
+    private Node<E> root;
+    private long sequence;
+
+    public RankedQueue() {
+        this.nodes = new ConcurrentHashMap<>();
+    }
+
+    public synchronized boolean add(E element, double key) {
+        if (nodes.containsKey(element))
+            return false;
+
+        Node<E> node = new Node<>(element, key, sequence++, ThreadLocalRandom.current().nextInt());
+        nodes.put(element, node);
+        root = insert(root, node);
+        return true;
+    }
+
+    public synchronized boolean remove(E element) {
+        Node<E> node = nodes.remove(element);
+
+        if (node == null)
+            return false;
+
+        root = remove(root, node);
+        return true;
+    }
+
+    public synchronized Optional<E> poll() {
+        Optional<E> first = peek();
+        first.ifPresent(this::remove);
+        return first;
+    }
+
+    public synchronized Optional<E> peek() {
+        Node<E> node = root;
+
+        while (node != null && node.left != null)
+            node = node.left;
+
+        return Optional.ofNullable(node).map(Node::getElement);
+    }
+
+    public boolean contains(E element) {
+        return nodes.containsKey(element);
+    }
+
+    public Optional<Double> getKey(E element) {
+        return Optional.ofNullable(nodes.get(element)).map(Node::getKey);
+    }
+
+    public synchronized int getPosition(E element) {
+        Node<E> target = nodes.get(element);
+
+        if (target == null)
+            return 0;
+
+        int rank = 0;
+        Node<E> node = root;
+
+        while (node != null) {
+            int compare = compare(target, node);
+
+            if (compare < 0) {
+                node = node.left;
+            } else if (compare > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left) + 1;
+            }
+        }
+
+        return 0;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    public synchronized void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    public synchronized void forEachRanked(RankConsumer<E> consumer) {
+        forEach(root, new int[] { 0 }, consumer);
+    }
+
+    public synchronized ImmutableList<E> toList() {
+        ImmutableList.Builder<E> builder = ImmutableList.builder();
+        forEachRanked((element, position) -> builder.add(element));
+        return builder.build();
+    }
+
+    public void forEach(Consumer<E> consumer) {
+        toList().forEach(consumer);
+    }
+
+    private void forEach(Node<E> node, int[] position, RankConsumer<E> consumer) {
+        if (node == null)
+            return;
+
+        forEach(node.left, position, consumer);
+        consumer.accept(node.element, ++position[0]);
+        forEach(node.right, position, consumer);
+    }
+
+    private Node<E> insert(Node<E> node, Node<E> inserted) {
+        if (node == null)
+            return inserted;
+
+        if (inserted.priority > node.priority) {
+            Node<E>[] split = split(node, inserted);
+            inserted.left = split[0];
+            inserted.right = split[1];
+            return update(inserted);
+        }
+
+        if (compare(inserted, node) < 0)
+            node.left = insert(node.left, inserted);
+        else
+            node.right = insert(node.right, inserted);
+
+        return update(node);
+    }
+
+    private Node<E> remove(Node<E> node, Node<E> removed) {
+        if (node == null)
+            return null;
+
+        if (node == removed)
+            return merge(node.left, node.right);
+
+        if (compare(removed, node) < 0)
+            node.left = remove(node.left, removed);
+        else
+            node.right = remove(node.right, removed);
+
+        return update(node);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<E>[] split(Node<E> node, Node<E> pivot) {
+        if (node == null)
+            return new Node[] { null, null };
+
+        if (compare(node, pivot) < 0) {
+            Node<E>[] split = split(node.right, pivot);
+            node.right = split[0];
+            split[0] = update(node);
+            return split;
+        }
+
+        Node<E>[] split = split(node.left, pivot);
+        node.left = split[1];
+        split[1] = update(node);
+        return split;
+    }
+
+    private Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private Node<E> update(Node<E> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private int size(Node<E> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private int compare(Node<E> first, Node<E> second) {
+        int compare = Double.compare(first.key, second.key);
+        return compare != 0 ? compare : Long.compare(first.sequence, second.sequence);
+    }
+
+    @FunctionalInterface
+    public interface RankConsumer<E> {
+
+        void accept(E element, int position);
+
+    }
+
+    private static class Node<E> {
+
+        private final E element;
+        private final double key;
+        private final long sequence;
+        private final int priority;
+
+        private Node<E> left, right;
+        private int size;
+
+        private Node(E element, double key, long sequence, int priority) {
+            this.element = element;
+            this.key = key;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.size = 1;
+        }
+
+        private E getElement() {
+            return element;
+        }
+
+        private double getKey() {
+            return key;
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+package fr.joupi.api.game.spatial;
+
+import fr.joupi.api.game.Game;
+import fr.joupi.api.game.entity.AbstractGameEntity;
+import fr.joupi.api.game.event.GamePlayerJoinEvent;
+import fr.joupi.api.game.event.GamePlayerLeaveEvent;
+import fr.joupi.api.game.event.GameUnloadEvent;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Getter
+public class GameSpatialIndex {
+
+    private static final Map<UUID, GameSpatialIndex> playerIndexes = new ConcurrentHashMap<>();
+
+    private final Game<?, ?, ?> game;
+
+    private final SpatialGrid<AbstractGameEntity<?>> entities;
+    private final SpatialGrid<UUID> players;
+    private final SpatialGrid<NamedLocation> locations;
+
+    public GameSpatialIndex(Game<?, ?, ?> game) {
+        this.game = game;
+        this.entities = new SpatialGrid<>();
+        this.players = new SpatialGrid<>();
+        this.locations = new SpatialGrid<>();
+
+        GameSpatialListener.start(game.getPlugin());
+        game.getEventBus().subscribe(GamePlayerJoinEvent.class, event -> Optional.ofNullable(event.getPlayer()).ifPresent(this::trackPlayer));
+        game.getEventBus().subscribe(GamePlayerLeaveEvent.class, event -> untrackPlayer(event.getGamePlayer().getUuid()));
+        game.getEventBus().subscribe(GameUnloadEvent.class, event -> clear());
+    }
+
+    public static Optional<GameSpatialIndex> getByPlayer(UUID uuid) {
+        return Optional.ofNullable(playerIndexes.get(uuid));
+    }
+
+    public void indexLocations() {
+        getLocations().clear();
+        getGame().getSettings().getLocations().forEach((name, locations) -> locations.forEach(location -> getLocations().update(new NamedLocation(name, location), location)));
+    }
+
+    public void trackPlayer(Player player) {
+        playerIndexes.put(player.getUniqueId(), this);
+        getPlayers().update(player.getUniqueId(), player.getLocation());
+    }
+
+    public void untrackPlayer(UUID uuid) {
+        playerIndexes.remove(uuid, this);
+        getPlayers().remove(uuid);
+    }
+
+    public void trackEntity(AbstractGameEntity<?> entity) {
+        getEntities().update(entity, Optional.ofNullable(entity.getEntity()).map(Entity::getLocation).orElse(entity.getLocation()));
+    }
+
+    public void untrackEntity(AbstractGameEntity<?> entity) {
+        getEntities().remove(entity);
+    }
+
+    public List<Player> getPlayersNear(Location location, double radius) {
+        return toPlayers(getPlayers().getInRadius(location, radius));
+    }
+
+    public List<Player> getNearestPlayers(Location location, int count) {
+        return toPlayers(getPlayers().getNearest(location, count));
+    }
+
+    public List<AbstractGameEntity<?>> getEntitiesNear(Location location, double radius) {
+        return getEntities().getInRadius(location, radius);
+    }
+
+    public List<NamedLocation> getLocationsNear(Location location, double radius) {
+        return getLocations().getInRadius(location, radius);
+    }
+
+    public List<Player> getPlayersInBox(Location min, Location max) {
+        return toPlayers(getPlayers().getInBox(min, max));
+    }
+
+    public List<AbstractGameEntity<?>> getEntitiesInBox(Location min, Location max) {
+        return getEntities().getInBox(min, max);
+    }
+
+    public List<NamedLocation> getLocationsInBox(Location min, Location max) {
+        return getLocations().getInBox(min, max);
+    }
+
+    public Optional<Location> getNearestLocation(Location location, String name) {
+        return getLocations().getNearest(location, 1, namedLocation -> namedLocation.getName().equals(name)).stream()
+                .findFirst()
+                .map(NamedLocation::getLocation);
+    }
+
+    public void clear() {
+        getPlayers().getPositions().keySet().forEach(uuid -> playerIndexes.remove(uuid, this));
+        getPlayers().clear();
+        getEntities().clear();
+        getLocations().clear();
+    }
+
+    private List<Player> toPlayers(List<UUID> uuids) {
+        return uuids.stream().map(Bukkit::getPlayer).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,43 @@
+package fr.joupi.api.game.spatial;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+class GameSpatialListener implements Listener {
+
+    private static GameSpatialListener listener;
+
+    static synchronized void start(JavaPlugin plugin) {
+        if (listener == null) {
+            listener = new GameSpatialListener();
+            Bukkit.getPluginManager().registerEvents(listener, plugin);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        if (hasMoved(event.getFrom(), event.getTo()))
+            update(event);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        update(event);
+    }
+
+    private void update(PlayerMoveEvent event) {
+        GameSpatialIndex.getByPlayer(event.getPlayer().getUniqueId())
+                .ifPresent(index -> index.getPlayers().update(event.getPlayer().getUniqueId(), event.getTo()));
+    }
+
+    private boolean hasMoved(Location from, Location to) {
+        return to != null && (from.getBlockX() != to.getBlockX() || from.getBlockY() != to.getBlockY() || from.getBlockZ() != to.getBlockZ() || from.getWorld() != to.getWorld());
+    }
+
+}
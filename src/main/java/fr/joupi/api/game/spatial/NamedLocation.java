@@ -0,0 +1,14 @@
+package fr.joupi.api.game.spatial;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.Location;
+
+@Getter
+@AllArgsConstructor
+public class NamedLocation {
+
+    private final String name;
+    private final Location location;
+
+}
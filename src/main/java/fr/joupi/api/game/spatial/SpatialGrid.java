@@ -0,0 +1,270 @@
+package fr.joupi.api.game.spatial;
+
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+@Getter
+public class SpatialGrid<T> {
+
+    private final int cellShift;
+    private final Map<UUID, Map<Long, List<T>>> worlds;
+    private final Map<UUID, Bounds> bounds;
+    private final Map<T, Position> positions;
+
+    public SpatialGrid() {
+        this(4);
+    }
+
+    public SpatialGrid(int cellShift) {
+        this.cellShift = cellShift;
+        this.worlds = new HashMap<>();
+        this.bounds = new HashMap<>();
+        this.positions = new HashMap<>();
+    }
+
+    public void update(T element, Location location) {
+        if (location == null || location.getWorld() == null)
+            return;
+
+        World world = location.getWorld();
+        long cell = cellKey(cell(location.getX()), cell(location.getZ()));
+        Position position = getPositions().get(element);
+
+        if (position == null) {
+            position = new Position(world, cell);
+            getPositions().put(element, position);
+            getCell(world.getUID(), cell, true).add(element);
+        } else if (position.cell != cell || !position.world.getUID().equals(world.getUID())) {
+            removeFromCell(element, position);
+            position.world = world;
+            position.cell = cell;
+            getCell(world.getUID(), cell, true).add(element);
+        }
+
+        position.x = location.getX();
+        position.y = location.getY();
+        position.z = location.getZ();
+    }
+
+    public void remove(T element) {
+        Optional.ofNullable(getPositions().remove(element)).ifPresent(position -> removeFromCell(element, position));
+    }
+
+    public void clear() {
+        getWorlds().clear();
+        getBounds().clear();
+        getPositions().clear();
+    }
+
+    public boolean contains(T element) {
+        return getPositions().containsKey(element);
+    }
+
+    public int size() {
+        return getPositions().size();
+    }
+
+    public Optional<Location> getLocation(T element) {
+        return Optional.ofNullable(getPositions().get(element)).map(position -> new Location(position.world, position.x, position.y, position.z));
+    }
+
+    public List<T> getInRadius(Location center, double radius) {
+        List<T> result = new ArrayList<>();
+        double radiusSquared = radius * radius;
+
+        forEachInCells(center.getWorld(), cell(center.getX() - radius), cell(center.getZ() - radius), cell(center.getX() + radius), cell(center.getZ() + radius), element -> {
+            if (distanceSquared(getPositions().get(element), center) <= radiusSquared)
+                result.add(element);
+        });
+
+        return result;
+    }
+
+    public boolean isAnyInRadius(Location center, double radius) {
+        if (center.getWorld() == null)
+            return false;
+
+        Map<Long, List<T>> cells = getWorlds().get(center.getWorld().getUID());
+        double radiusSquared = radius * radius;
+
+        if (cells == null)
+            return false;
+
+        for (int x = cell(center.getX() - radius); x <= cell(center.getX() + radius); x++) {
+            for (int z = cell(center.getZ() - radius); z <= cell(center.getZ() + radius); z++) {
+                List<T> elements = cells.get(cellKey(x, z));
+
+                if (elements != null && elements.stream().anyMatch(element -> distanceSquared(getPositions().get(element), center) <= radiusSquared))
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
+    public List<T> getInBox(Location min, Location max) {
+        List<T> result = new ArrayList<>();
+        double minX = Math.min(min.getX(), max.getX()), maxX = Math.max(min.getX(), max.getX());
+        double minY = Math.min(min.getY(), max.getY()), maxY = Math.max(min.getY(), max.getY());
+        double minZ = Math.min(min.getZ(), max.getZ()), maxZ = Math.max(min.getZ(), max.getZ());
+
+        forEachInCells(min.getWorld(), cell(minX), cell(minZ), cell(maxX), cell(maxZ), element -> {
+            Position position = getPositions().get(element);
+
+            if (position.x >= minX && position.x <= maxX && position.y >= minY && position.y <= maxY && position.z >= minZ && position.z <= maxZ)
+                result.add(element);
+        });
+
+        return result;
+    }
+
+    public List<T> getNearest(Location center, int count) {
+        return getNearest(center, count, element -> true);
+    }
+
+    public List<T> getNearest(Location center, int count, Predicate<T> filter) {
+        Map<Long, List<T>> cells = Optional.ofNullable(center.getWorld()).map(world -> getWorlds().get(world.getUID())).orElse(null);
+
+        if (cells == null || count <= 0)
+            return Collections.emptyList();
+
+        int centerX = cell(center.getX()), centerZ = cell(center.getZ());
+        int maxRing = getBounds().get(center.getWorld().getUID()).getMaxRing(centerX, centerZ);
+        PriorityQueue<Candidate<T>> nearest = new PriorityQueue<>(Comparator.comparingDouble((Candidate<T> candidate) -> candidate.distance).reversed());
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (nearest.size() == count && nearest.peek().distance <= Math.pow((double) (ring - 1) * (1 << getCellShift()), 2))
+                break;
+
+            for (int x = centerX - ring; x <= centerX + ring; x++) {
+                for (int z = centerZ - ring; z <= centerZ + ring; z++) {
+                    if (Math.abs(x - centerX) != ring && Math.abs(z - centerZ) != ring)
+                        continue;
+
+                    List<T> elements = cells.get(cellKey(x, z));
+
+                    if (elements == null)
+                        continue;
+
+                    for (T element : elements) {
+                        if (!filter.test(element))
+                            continue;
+
+                        nearest.add(new Candidate<>(element, distanceSquared(getPositions().get(element), center)));
+
+                        if (nearest.size() > count)
+                            nearest.poll();
+                    }
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<>(nearest.size());
+
+        while (!nearest.isEmpty())
+            result.add(nearest.poll().element);
+
+        Collections.reverse(result);
+        return result;
+    }
+
+    private void forEachInCells(World world, int minX, int minZ, int maxX, int maxZ, Consumer<T> consumer) {
+        if (world == null)
+            return;
+
+        Map<Long, List<T>> cells = getWorlds().get(world.getUID());
+
+        if (cells == null)
+            return;
+
+        for (int x = minX; x <= maxX; x++)
+            for (int z = minZ; z <= maxZ; z++)
+                Optional.ofNullable(cells.get(cellKey(x, z))).ifPresent(elements -> elements.forEach(consumer));
+    }
+
+    private void removeFromCell(T element, Position position) {
+        List<T> elements = getCell(position.world.getUID(), position.cell, false);
+
+        if (elements == null)
+            return;
+
+        elements.remove(element);
+
+        if (elements.isEmpty())
+            getWorlds().get(position.world.getUID()).remove(position.cell);
+    }
+
+    private List<T> getCell(UUID world, long cell, boolean create) {
+        Map<Long, List<T>> cells = create ? getWorlds().computeIfAbsent(world, uuid -> new HashMap<>()) : getWorlds().get(world);
+
+        if (cells == null)
+            return null;
+
+        if (create)
+            getBounds().computeIfAbsent(world, uuid -> new Bounds()).expand((int) (cell >> 32), (int) cell);
+
+        return create ? cells.computeIfAbsent(cell, key -> new ArrayList<>(4)) : cells.get(cell);
+    }
+
+    private double distanceSquared(Position position, Location location) {
+        double x = position.x - location.getX(), y = position.y - location.getY(), z = position.z - location.getZ();
+        return x * x + y * y + z * z;
+    }
+
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate) >> getCellShift();
+    }
+
+    private long cellKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    private static class Position {
+
+        private World world;
+        private long cell;
+        private double x, y, z;
+
+        private Position(World world, long cell) {
+            this.world = world;
+            this.cell = cell;
+        }
+
+    }
+
+    private static class Bounds {
+
+        private int minX = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        private int maxX = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+
+        private void expand(int x, int z) {
+            minX = Math.min(minX, x);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxZ = Math.max(maxZ, z);
+        }
+
+        private int getMaxRing(int x, int z) {
+            return Math.max(Math.max(Math.abs(x - minX), Math.abs(maxX - x)), Math.max(Math.abs(z - minZ), Math.abs(maxZ - z)));
+        }
+
+    }
+
+    private static class Candidate<T> {
+
+        private final T element;
+        private final double distance;
+
+        private Candidate(T element, double distance) {
+            this.element = element;
+            this.distance = distance;
+        }
+
+    }
+
+}
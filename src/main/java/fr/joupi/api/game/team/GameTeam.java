@@ -4,9 +4,13 @@ import fr.joupi.api.Utils;
 import fr.joupi.api.game.GamePlayer;
 import lombok.Getter;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -16,30 +20,51 @@ public abstract class GameTeam {
     private final String name;
     private final GameTeamColor color;
 
-    private final List<GamePlayer> members;
+    private final Map<UUID, GamePlayer> members;
+    private int alivePlayersCount;
+
+    private Consumer<GamePlayer> joinIndex, leaveIndex;
 
     public GameTeam(GameTeamColor color) {
         this.name = color.getName();
         this.color = color;
-        this.members = new ArrayList<>();
+        this.members = new LinkedHashMap<>();
+        this.alivePlayersCount = 0;
+        this.joinIndex = gamePlayer -> {};
+        this.leaveIndex = gamePlayer -> {};
+    }
+
+    public void bindIndex(Consumer<GamePlayer> joinIndex, Consumer<GamePlayer> leaveIndex) {
+        this.joinIndex = joinIndex;
+        this.leaveIndex = leaveIndex;
     }
 
     public void addMember(GamePlayer gamePlayer) {
-        getMembers().add(gamePlayer);
+        if (members.put(gamePlayer.getUuid(), gamePlayer) == null && !gamePlayer.isSpectator()) alivePlayersCount++;
+        joinIndex.accept(gamePlayer);
         Utils.debug("Team - {0} added to {1} team", gamePlayer.getPlayer().getName(), getName());
     }
 
     public void removeMember(GamePlayer gamePlayer) {
-        getMembers().remove(gamePlayer);
+        if (members.remove(gamePlayer.getUuid(), gamePlayer) && !gamePlayer.isSpectator()) alivePlayersCount--;
+        leaveIndex.accept(gamePlayer);
         Utils.debug("Team - {0} removed to {1} team", gamePlayer.getPlayer().getName(), getName());
     }
 
+    public void updateSpectator(GamePlayer gamePlayer) {
+        alivePlayersCount += gamePlayer.isSpectator() ? -1 : 1;
+    }
+
     public boolean isMember(GamePlayer gamePlayer) {
-        return getMembers().contains(gamePlayer);
+        return members.get(gamePlayer.getUuid()) == gamePlayer;
     }
 
     public boolean isMember(UUID uuid) {
-        return getMembers().stream().anyMatch(gamePlayer -> gamePlayer.getUuid().equals(uuid));
+        return members.containsKey(uuid);
+    }
+
+    public Collection<GamePlayer> getMembers() {
+        return Collections.unmodifiableCollection(members.values());
     }
 
     public List<GamePlayer> getAlivePlayers() {
@@ -51,11 +76,11 @@ public abstract class GameTeam {
     }
 
     public boolean isNoPlayersAlive() {
-        return getAlivePlayers().isEmpty();
+        return getAlivePlayersCount() == 0;
     }
 
     public int getSize() {
-        return getMembers().size();
+        return members.size();
     }
 
     public String getColoredName() {
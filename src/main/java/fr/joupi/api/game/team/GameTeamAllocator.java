@@ -0,0 +1,139 @@
+package fr.joupi.api.game.team;
+
+import fr.joupi.api.Utils;
+import fr.joupi.api.game.Game;
+import fr.joupi.api.game.GameManager;
+import fr.joupi.api.game.GamePlayer;
+import fr.joupi.api.game.party.GameParty;
+import fr.joupi.api.game.party.GamePartyManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+@Getter
+@Setter
+public class GameTeamAllocator<T extends GameTeam> {
+
+    private final Game<?, T, ?> game;
+
+    private ToDoubleFunction<GamePlayer> rating;
+
+    public GameTeamAllocator(Game<?, T, ?> game) {
+        this.game = game;
+        this.rating = gamePlayer -> 0;
+    }
+
+    public void allocate() {
+        int capacity = getGame().getSettings().getGameSize().getTeamMaxPlayer();
+        List<T> teams = getGame().getTeams();
+
+        if (teams.isEmpty())
+            return;
+
+        PriorityQueue<TeamLoad<T>> loads = new PriorityQueue<>(teams.size());
+
+        for (int i = 0; i < teams.size(); i++)
+            loads.add(new TeamLoad<>(teams.get(i), i, capacity <= 0 ? Integer.MAX_VALUE : capacity, teams.get(i).getSize(), getRating(teams.get(i).getMembers())));
+
+        for (List<GamePlayer> group : getGroups()) {
+            if (loads.peek().isFull())
+                return;
+
+            Optional<TeamLoad<T>> fit = pollFit(loads, group.size());
+
+            if (fit.isPresent()) {
+                TeamLoad<T> load = fit.get();
+                group.forEach(gamePlayer -> assign(load, gamePlayer));
+                loads.add(load);
+                continue;
+            }
+
+            for (GamePlayer gamePlayer : group) {
+                TeamLoad<T> load = loads.poll();
+
+                if (load.isFull()) {
+                    loads.add(load);
+                    return;
+                }
+
+                assign(load, gamePlayer);
+                loads.add(load);
+            }
+        }
+    }
+
+    private Optional<TeamLoad<T>> pollFit(PriorityQueue<TeamLoad<T>> loads, int size) {
+        if (loads.peek().canFit(size))
+            return Optional.of(loads.poll());
+
+        Optional<TeamLoad<T>> fit = loads.stream().filter(load -> load.canFit(size)).min(Comparator.naturalOrder());
+        fit.ifPresent(loads::remove);
+        return fit;
+    }
+
+    private void assign(TeamLoad<T> load, GamePlayer gamePlayer) {
+        getGame().addPlayerToTeam(gamePlayer, load.getTeam());
+        load.add(getRating().applyAsDouble(gamePlayer));
+    }
+
+    private List<List<GamePlayer>> getGroups() {
+        Map<GameParty, List<GamePlayer>> parties = new LinkedHashMap<>();
+        List<GamePlayer> solos = new ArrayList<>();
+        Optional<GamePartyManager> partyManager = Optional.ofNullable(getGame().getGameManager()).map(GameManager::getPartyManager);
+
+        getGame().getPlayersWithoutTeam().forEach(gamePlayer -> Utils.ifPresentOrElse(partyManager.flatMap(manager -> manager.getParty(gamePlayer.getUuid())),
+                gameParty -> parties.computeIfAbsent(gameParty, k -> new ArrayList<>()).add(gamePlayer),
+                () -> solos.add(gamePlayer)));
+
+        List<List<GamePlayer>> groups = new ArrayList<>(parties.values());
+        groups.sort(Comparator.comparingInt(List<GamePlayer>::size).reversed());
+
+        solos.sort(Comparator.comparingDouble(getRating()).reversed());
+        solos.forEach(gamePlayer -> groups.add(Collections.singletonList(gamePlayer)));
+
+        return groups;
+    }
+
+    private double getRating(Collection<GamePlayer> gamePlayers) {
+        return gamePlayers.stream().mapToDouble(getRating()).sum();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class TeamLoad<T extends GameTeam> implements Comparable<TeamLoad<T>> {
+
+        private final T team;
+        private final int index, capacity;
+
+        private int size;
+        private double rating;
+
+        public void add(double rating) {
+            this.size++;
+            this.rating += rating;
+        }
+
+        public boolean canFit(int size) {
+            return getCapacity() - getSize() >= size;
+        }
+
+        public boolean isFull() {
+            return getSize() >= getCapacity();
+        }
+
+        @Override
+        public int compareTo(TeamLoad<T> other) {
+            int compare = Integer.compare(getSize(), other.getSize());
+
+            if (compare == 0)
+                compare = Double.compare(getRating(), other.getRating());
+
+            return compare == 0 ? Integer.compare(getIndex(), other.getIndex()) : compare;
+        }
+
+    }
+
+}
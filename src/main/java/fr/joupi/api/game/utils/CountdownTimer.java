@@ -3,7 +3,7 @@ package fr.joupi.api.game.utils;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
-import org.bukkit.Bukkit;
+import fr.joupi.api.game.Game;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.Optional;
@@ -41,7 +41,7 @@ public class CountdownTimer implements Runnable {
     public void run() {
         if (getSecondsLeft() < 1) {
             getAfterTimer().run();
-            Optional.ofNullable(getAssignedTaskId()).ifPresent(Bukkit.getScheduler()::cancelTask);
+            Optional.ofNullable(getAssignedTaskId()).ifPresent(GameTicker::cancel);
             return;
         }
 
@@ -54,11 +54,20 @@ public class CountdownTimer implements Runnable {
     }
 
     public void cancelTimer() {
-        Bukkit.getScheduler().cancelTask(getAssignedTaskId());
+        Optional.ofNullable(getAssignedTaskId()).ifPresent(GameTicker::cancel);
     }
 
     public void scheduleTimer() {
-        setAssignedTaskId(Bukkit.getScheduler().scheduleSyncRepeatingTask(getPlugin(), this, 0L, 20L));
+        scheduleTimer(GameTicker.GLOBAL);
+    }
+
+    public void scheduleTimer(Game<?, ?, ?> game) {
+        scheduleTimer((Object) game);
+    }
+
+    private void scheduleTimer(Object owner) {
+        GameTicker.start(getPlugin());
+        setAssignedTaskId(GameTicker.runTimer(owner, task -> run(), 0L, 20L).getTaskId());
     }
 
 }
\ No newline at end of file
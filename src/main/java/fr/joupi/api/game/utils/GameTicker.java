@@ -0,0 +1,85 @@
+package fr.joupi.api.game.utils;
+
+import fr.joupi.api.HashedWheelTimer;
+import fr.joupi.api.MultiThreading;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@UtilityClass
+public class GameTicker {
+
+    public final Object GLOBAL = new Object();
+
+    private final AtomicInteger counter = new AtomicInteger(0);
+
+    private final Map<Object, TickGroup> groups = new ConcurrentHashMap<>();
+    private final Map<Integer, TickTask> tasks = new ConcurrentHashMap<>();
+
+    @Getter
+    private final HashedWheelTimer timer = new HashedWheelTimer(512);
+
+    @Getter
+    private JavaPlugin plugin;
+    private BukkitTask task;
+
+    @Getter
+    private volatile long currentTick;
+
+    public synchronized void start(JavaPlugin plugin) {
+        if (task == null) {
+            GameTicker.plugin = plugin;
+            task = Bukkit.getScheduler().runTaskTimer(plugin, GameTicker::tick, 1L, 1L);
+        }
+    }
+
+    public synchronized void stop() {
+        Optional.ofNullable(task).ifPresent(BukkitTask::cancel);
+        task = null;
+    }
+
+    public Optional<TickGroup> getGroup(Object owner) {
+        return Optional.ofNullable(groups.get(owner));
+    }
+
+    public void unregister(Object owner) {
+        Optional.ofNullable(groups.remove(owner)).ifPresent(TickGroup::cancel);
+    }
+
+    public TickTask runLater(Object owner, Consumer<BukkitTask> consumer, long delay) {
+        return schedule(owner, consumer, delay, 0);
+    }
+
+    public TickTask runTimer(Object owner, Consumer<BukkitTask> consumer, long delay, long period) {
+        return schedule(owner, consumer, delay, Math.max(1, period));
+    }
+
+    public void cancel(int taskId) {
+        Optional.ofNullable(tasks.remove(taskId)).ifPresent(TickTask::cancel);
+    }
+
+    private TickTask schedule(Object owner, Consumer<BukkitTask> consumer, long delay, long period) {
+        TickTask tickTask = new TickTask(-counter.incrementAndGet(), plugin, consumer, getCurrentTick() + Math.max(1, delay), period);
+        tasks.put(tickTask.getTaskId(), tickTask);
+        groups.compute(owner, (key, group) -> Optional.ofNullable(group).orElseGet(() -> new TickGroup(key)).add(tickTask));
+        return tickTask;
+    }
+
+    private void tick() {
+        currentTick++;
+        MultiThreading.mainThread.drain();
+        timer.advance();
+        groups.values().forEach(group -> group.tick(currentTick));
+        groups.keySet().forEach(owner -> groups.computeIfPresent(owner, (key, group) -> group.isEmpty() ? null : group));
+        tasks.values().removeIf(TickTask::isCancelled);
+    }
+
+}
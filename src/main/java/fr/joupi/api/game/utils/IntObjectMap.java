@@ -0,0 +1,130 @@
+package fr.joupi.api.game.utils;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+public class IntObjectMap<V> {
+
+    private static final float LOAD_FACTOR = 0.5F;
+
+    private int[] keys;
+    private Object[] values;
+    private int size, mask;
+
+    public IntObjectMap() {
+        this(64);
+    }
+
+    public IntObjectMap(int capacity) {
+        int length = Integer.highestOneBit(Math.max(4, (int) (capacity / LOAD_FACTOR) - 1)) << 1;
+        this.keys = new int[length];
+        this.values = new Object[length];
+        this.mask = length - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        for (int index = hash(key); values[index] != null; index = (index + 1) & mask)
+            if (keys[index] == key)
+                return (V) values[index];
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        int index = hash(key);
+
+        for (; values[index] != null; index = (index + 1) & mask) {
+            if (keys[index] == key) {
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+        }
+
+        keys[index] = key;
+        values[index] = value;
+
+        if (++size > keys.length * LOAD_FACTOR)
+            resize();
+
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int index = hash(key);
+
+        for (; values[index] != null; index = (index + 1) & mask)
+            if (keys[index] == key)
+                break;
+
+        if (values[index] == null)
+            return null;
+
+        V previous = (V) values[index];
+        values[index] = null;
+        size--;
+        shiftBack(index);
+        return previous;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<V> consumer) {
+        for (Object value : values)
+            if (value != null)
+                consumer.accept((V) value);
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private void shiftBack(int hole) {
+        for (int index = (hole + 1) & mask; values[index] != null; index = (index + 1) & mask) {
+            int home = hash(keys[index]);
+
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = values[index];
+                values[index] = null;
+                hole = index;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+
+        keys = new int[oldKeys.length << 1];
+        values = new Object[oldValues.length << 1];
+        mask = keys.length - 1;
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++)
+            if (oldValues[i] != null)
+                put(oldKeys[i], (V) oldValues[i]);
+    }
+
+    private int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+}
@@ -0,0 +1,52 @@
+package fr.joupi.api.game.utils;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Getter
+public class TickGroup {
+
+    private final Object owner;
+
+    private final List<TickTask> tasks;
+    private final Queue<TickTask> pending;
+
+    public TickGroup(Object owner) {
+        this.owner = owner;
+        this.tasks = new ArrayList<>();
+        this.pending = new ConcurrentLinkedQueue<>();
+    }
+
+    public TickGroup add(TickTask task) {
+        getPending().add(task);
+        return this;
+    }
+
+    public void tick(long currentTick) {
+        TickTask task;
+
+        while ((task = getPending().poll()) != null)
+            getTasks().add(task);
+
+        getTasks().forEach(tickTask -> tickTask.tick(currentTick));
+        getTasks().removeIf(TickTask::isCancelled);
+    }
+
+    public void cancel() {
+        getPending().forEach(TickTask::cancel);
+        getTasks().forEach(TickTask::cancel);
+    }
+
+    public int getSize() {
+        return getTasks().size() + getPending().size();
+    }
+
+    public boolean isEmpty() {
+        return getTasks().isEmpty() && getPending().isEmpty();
+    }
+
+}
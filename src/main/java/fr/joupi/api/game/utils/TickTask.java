@@ -0,0 +1,54 @@
+package fr.joupi.api.game.utils;
+
+import fr.joupi.api.Utils;
+import lombok.Getter;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.function.Consumer;
+
+@Getter
+public class TickTask implements BukkitTask {
+
+    private final int taskId;
+    private final Plugin owner;
+    private final Consumer<BukkitTask> consumer;
+    private final long period;
+
+    private long nextTick;
+    private volatile boolean cancelled;
+
+    public TickTask(int taskId, Plugin owner, Consumer<BukkitTask> consumer, long nextTick, long period) {
+        this.taskId = taskId;
+        this.owner = owner;
+        this.consumer = consumer;
+        this.nextTick = nextTick;
+        this.period = period;
+        this.cancelled = false;
+    }
+
+    public void tick(long currentTick) {
+        if (isCancelled() || currentTick < getNextTick())
+            return;
+
+        try {
+            getConsumer().accept(this);
+        } catch (Exception exception) {
+            Utils.warn(exception, "Ticker - task {0} failed", getTaskId());
+        }
+
+        if (getPeriod() > 0) nextTick += getPeriod();
+        else cancel();
+    }
+
+    @Override
+    public boolean isSync() {
+        return true;
+    }
+
+    @Override
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+}
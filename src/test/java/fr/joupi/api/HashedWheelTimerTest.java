@@ -0,0 +1,80 @@
+package fr.joupi.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedWheelTimerTest {
+
+    private static final int TIMEOUTS = 100_000, MAX_DELAY = 2_000, WHEEL_SIZE = 512;
+
+    @Test
+    void firesPendingTimeoutsOnTheirTick() {
+        HashedWheelTimer timer = new HashedWheelTimer(WHEEL_SIZE);
+        Random random = new Random(3);
+
+        long[] deadlines = new long[TIMEOUTS], fired = new long[TIMEOUTS];
+        int[] runs = new int[TIMEOUTS];
+        List<WheelTimeout> timeouts = new ArrayList<>(TIMEOUTS);
+
+        for (int i = 0; i < TIMEOUTS; i++) {
+            int index = i;
+            long delay = 1 + random.nextInt(MAX_DELAY);
+
+            deadlines[i] = delay;
+            timeouts.add(timer.schedule(() -> {
+                fired[index] = timer.getTick();
+                runs[index]++;
+            }, delay));
+        }
+
+        assertEquals(TIMEOUTS, timer.getPending());
+
+        timer.advance();
+
+        for (int i = 0; i < TIMEOUTS; i += 3)
+            assertEquals(deadlines[i] > 1, timeouts.get(i).cancel(), "cancel " + i);
+
+        int bound = 2 * (TIMEOUTS / WHEEL_SIZE);
+
+        for (int tick = 1; tick < MAX_DELAY; tick++) {
+            timer.advance();
+
+            int[] sizes = timer.getBucketSizes();
+            assertTrue(Arrays.stream(sizes).max().orElse(0) <= bound, "bucket over " + bound + " at tick " + tick);
+            assertEquals(timer.getPending(), Arrays.stream(sizes).sum(), "pending at tick " + tick);
+        }
+
+        assertEquals(0, timer.getPending());
+        assertEquals(0, Arrays.stream(timer.getBucketSizes()).sum());
+
+        for (int i = 0; i < TIMEOUTS; i++) {
+            if (i % 3 == 0 && deadlines[i] > 1) {
+                assertEquals(0, runs[i], "cancelled timeout " + i + " ran");
+                assertTrue(timeouts.get(i).isCancelled());
+            } else {
+                assertEquals(1, runs[i], "timeout " + i + " runs");
+                assertEquals(deadlines[i], fired[i], "timeout " + i + " tick");
+                assertTrue(timeouts.get(i).isExpired());
+            }
+        }
+    }
+
+    @Test
+    void cancelAfterExpiryIsRejected() {
+        HashedWheelTimer timer = new HashedWheelTimer(8);
+        WheelTimeout timeout = timer.schedule(() -> {}, 1);
+
+        timer.advance();
+
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertEquals(0, timer.getPending());
+    }
+
+}
@@ -0,0 +1,40 @@
+package fr.joupi.api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiThreadingTest {
+
+    @AfterEach
+    void tearDown() {
+        MultiThreading.setVirtualThreads(false);
+    }
+
+    @Test
+    void createsVirtualPoolOnFirstUse() throws ReflectiveOperationException {
+        assertNull(getVirtualPool());
+
+        MultiThreading.setVirtualThreads(true);
+        assertNull(getVirtualPool());
+
+        ExecutorService executor = MultiThreading.getBlockingExecutor();
+        assertEquals(MultiThreading.isVirtualThreadsAvailable(), getVirtualPool() != null);
+        assertEquals(MultiThreading.isVirtualThreadsAvailable(), !(executor instanceof InstrumentedExecutor));
+        assertSame(executor, MultiThreading.getBlockingExecutor());
+
+        MultiThreading.setVirtualThreads(false);
+        assertTrue(MultiThreading.getBlockingExecutor() instanceof InstrumentedExecutor);
+    }
+
+    private static Object getVirtualPool() throws ReflectiveOperationException {
+        Field field = MultiThreading.class.getDeclaredField("virtualPool");
+        field.setAccessible(true);
+        return field.get(null);
+    }
+
+}
@@ -0,0 +1,92 @@
+package fr.joupi.api;
+
+import lombok.experimental.UtilityClass;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+
+@UtilityClass
+public class TestBukkit {
+
+    private final Map<UUID, Player> players = new ConcurrentHashMap<>();
+
+    public synchronized void start() {
+        if (Bukkit.getServer() == null)
+            Bukkit.setServer(fake(Server.class, (method, args) -> method.getName().equals("getPlayer") && args[0] instanceof UUID ? players.get(args[0]) : null));
+    }
+
+    public Player player(String name) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        Player player = fake(Player.class, (method, args) -> {
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return uuid;
+                case "getName":
+                    return name;
+                default:
+                    return null;
+            }
+        });
+
+        players.put(uuid, player);
+        return player;
+    }
+
+    public World world(String name) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+
+        return fake(World.class, (method, args) -> {
+            switch (method.getName()) {
+                case "getUID":
+                    return uuid;
+                case "getName":
+                    return name;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private <T> T fake(Class<T> type, BiFunction<Method, Object[], Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName();
+            }
+
+            return Optional.ofNullable(answers.apply(method, args)).orElseGet(() -> defaultValue(method.getReturnType()));
+        }));
+    }
+
+    private Object defaultValue(Class<?> type) {
+        if (type == void.class)
+            return null;
+
+        if (type.isPrimitive())
+            return Array.get(Array.newInstance(type, 1), 0);
+
+        if (type == String.class)
+            return "test";
+
+        if (type == Logger.class)
+            return Logger.getLogger("test");
+
+        return type.isInterface() ? fake(type, (method, args) -> null) : null;
+    }
+
+}
@@ -0,0 +1,125 @@
+package fr.joupi.api.game;
+
+import fr.joupi.api.TestBukkit;
+import fr.joupi.api.game.team.GameTeam;
+import fr.joupi.api.game.utils.DefaultGameTeam;
+import fr.joupi.api.game.utils.GameSizeTemplate;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameCountersTest {
+
+    private TestGame game;
+    private List<Player> players;
+
+    @BeforeEach
+    void setUp() {
+        TestBukkit.start();
+        game = new TestGame(GameSizeTemplate.SIZE_5V5.getGameSize());
+        players = IntStream.range(0, 12).mapToObj(i -> TestBukkit.player("player" + i)).collect(Collectors.toList());
+    }
+
+    @Test
+    void countsJoinAndLeave() {
+        players.forEach(game::joinGame);
+        game.joinGame(players.get(0));
+        game.joinGame(TestBukkit.player("watcher"), true);
+        assertCounters(game);
+        assertEquals(12, game.getAlivePlayersCount());
+        assertEquals(1, game.getSpectatorsCount());
+
+        game.leaveGame(players.get(3).getUniqueId());
+        game.leaveGame(players.get(3).getUniqueId());
+        assertCounters(game);
+        assertEquals(11, game.getAlivePlayersCount());
+    }
+
+    @Test
+    void countsSpectatorSwitchInTeams() {
+        players.forEach(game::joinGame);
+        game.fillTeam();
+        assertCounters(game);
+
+        game.getPlayer(players.get(0).getUniqueId()).ifPresent(gamePlayer -> {
+            gamePlayer.setSpectator(true);
+            gamePlayer.setSpectator(true);
+        });
+        assertCounters(game);
+
+        game.getPlayer(players.get(0).getUniqueId()).ifPresent(gamePlayer -> gamePlayer.setSpectator(false));
+        game.leaveGame(players.get(1).getUniqueId());
+        assertCounters(game);
+    }
+
+    @Test
+    void exposesMembersAsReadOnlyView() {
+        players.forEach(game::joinGame);
+        game.fillTeam();
+
+        DefaultGameTeam team = game.getTeams().get(0);
+        Collection<GamePlayer> members = team.getMembers();
+        GamePlayer gamePlayer = members.iterator().next();
+
+        assertThrows(UnsupportedOperationException.class, () -> members.remove(gamePlayer));
+
+        game.removePlayerToTeam(gamePlayer);
+        assertFalse(members.contains(gamePlayer));
+
+        game.addPlayerToTeam(gamePlayer, (GameTeam) team);
+        assertTrue(members.contains(gamePlayer));
+        assertCounters(game);
+    }
+
+    @Test
+    void staysConsistentUnderRandomOperations() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2000; i++) {
+            Player player = players.get(random.nextInt(players.size()));
+            UUID uuid = player.getUniqueId();
+
+            switch (random.nextInt(5)) {
+                case 0:
+                    game.joinGame(player, random.nextBoolean());
+                    break;
+                case 1:
+                    game.leaveGame(uuid);
+                    break;
+                case 2:
+                    game.getPlayer(uuid).ifPresent(gamePlayer -> gamePlayer.setSpectator(!gamePlayer.isSpectator()));
+                    break;
+                case 3:
+                    game.fillTeam();
+                    break;
+                default:
+                    game.getPlayer(uuid).ifPresent(game::removePlayerToTeam);
+                    break;
+            }
+
+            assertCounters(game);
+        }
+    }
+
+    private static void assertCounters(Game<?, ?, ?> game) {
+        assertEquals(game.getAlivePlayers().size(), game.getAlivePlayersCount(), "alive");
+        assertEquals(game.getSpectators().size(), game.getSpectatorsCount(), "spectators");
+
+        game.getTeams().forEach(team -> {
+            assertEquals(team.getAlivePlayers().size(), team.getAlivePlayersCount(), team.getName() + ".alive");
+            team.getMembers().forEach(gamePlayer -> assertSame(team, game.getTeam(gamePlayer).orElse(null), team.getName() + ".index"));
+        });
+
+        assertEquals(game.getTeams().stream().mapToInt(team -> team.getMembers().size()).sum(), game.getPlayersWithTeam().size(), "teams");
+    }
+
+}
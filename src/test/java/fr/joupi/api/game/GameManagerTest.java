@@ -0,0 +1,59 @@
+package fr.joupi.api.game;
+
+import fr.joupi.api.TestBukkit;
+import fr.joupi.api.game.utils.GameSizeTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameManagerTest {
+
+    private GameManager gameManager;
+    private TestGame empty, half, full;
+
+    @BeforeEach
+    void setUp() {
+        TestBukkit.start();
+        gameManager = new GameManager(null);
+        empty = createGame("empty", 0);
+        half = createGame("half", 2);
+        full = createGame("full", 4);
+    }
+
+    @Test
+    void listsEveryGameByPlayerCount() {
+        assertEquals(Arrays.asList(full, half, empty), gameManager.getGamesWithMorePlayers("test", GameState.WAIT));
+        assertEquals(Arrays.asList(empty, half, full), gameManager.getGamesWithLessPlayers("test", GameState.WAIT));
+        assertEquals(Arrays.asList(full, half, empty), gameManager.getGamesWithMorePlayers("test"));
+        assertEquals(Arrays.asList(empty, half, full), gameManager.getGamesWithLessPlayers("test"));
+    }
+
+    @Test
+    void listsEveryReachableGame() {
+        assertEquals(Arrays.asList(half, empty), gameManager.getReachableGamesWithMorePlayers("test"));
+        assertEquals(Arrays.asList(empty, half), gameManager.getReachableGamesWithLessPlayers("test"));
+    }
+
+    @Test
+    void followsStateChanges() {
+        half.setState(GameState.IN_GAME);
+
+        List<Game> waiting = gameManager.getGamesWithMorePlayers("test", GameState.WAIT);
+
+        assertEquals(Arrays.asList(full, empty), waiting);
+        assertEquals(Arrays.asList(half), gameManager.getGamesWithMorePlayers("test", GameState.IN_GAME));
+    }
+
+    private TestGame createGame(String name, int players) {
+        TestGame game = new TestGame(GameSizeTemplate.SIZE_2V2.getGameSize());
+        gameManager.addGame("test", game);
+        IntStream.range(0, players).forEach(i -> gameManager.joinGame(game, TestBukkit.player(name + i)));
+        return game;
+    }
+
+}
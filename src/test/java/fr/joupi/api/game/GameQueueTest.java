@@ -0,0 +1,58 @@
+package fr.joupi.api.game;
+
+import fr.joupi.api.TestBukkit;
+import fr.joupi.api.game.queue.QueueTier;
+import fr.joupi.api.game.utils.GameSizeTemplate;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameQueueTest {
+
+    private TestGame game;
+    private GameQueue<TestGame> queue;
+
+    @BeforeEach
+    void setUp() {
+        TestBukkit.start();
+        game = new TestGame(GameSizeTemplate.SIZE_2V2.getGameSize());
+        queue = new GameQueue<>(game);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.unregister();
+    }
+
+    @Test
+    void playersAlreadyInGameDoNotUseSlots() {
+        Player joined = TestBukkit.player("joined"), first = TestBukkit.player("first"), second = TestBukkit.player("second"), third = TestBukkit.player("third");
+
+        game.joinGame(joined);
+        queue.addPlayer(joined, QueueTier.DEFAULT);
+        queue.addPlayer(first, QueueTier.DEFAULT);
+        queue.addPlayer(second, QueueTier.DEFAULT);
+        queue.addPlayer(third, QueueTier.DEFAULT);
+        queue.update();
+
+        assertEquals(4, game.getSize());
+        assertTrue(game.containsPlayer(third));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void stopsWhenGameIsFull() {
+        for (int i = 0; i < 6; i++)
+            queue.addPlayer(TestBukkit.player("waiting" + i), QueueTier.DEFAULT);
+
+        queue.update();
+
+        assertEquals(4, game.getSize());
+        assertEquals(2, queue.getSize());
+        assertEquals(0, game.getFreeSlots());
+    }
+
+}
@@ -0,0 +1,33 @@
+package fr.joupi.api.game;
+
+import fr.joupi.api.game.team.GameTeamColor;
+import fr.joupi.api.game.utils.DefaultGameSettings;
+import fr.joupi.api.game.utils.DefaultGameTeam;
+
+import java.util.UUID;
+
+public class TestGame extends Game<TestGame.TestGamePlayer, DefaultGameTeam, DefaultGameSettings> {
+
+    public TestGame(GameSize gameSize) {
+        super(null, "test", new DefaultGameSettings(gameSize, null));
+    }
+
+    @Override
+    public TestGamePlayer defaultGamePlayer(UUID uuid, boolean spectator) {
+        return new TestGamePlayer(uuid, spectator);
+    }
+
+    @Override
+    public DefaultGameTeam defaultGameTeam(GameTeamColor color) {
+        return new DefaultGameTeam(color);
+    }
+
+    public static class TestGamePlayer extends GamePlayer {
+
+        public TestGamePlayer(UUID uuid, boolean spectator) {
+            super(uuid, spectator);
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package fr.joupi.api.game.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+public class RecordingPacketSink implements PacketSink {
+
+    private final AtomicInteger nextId = new AtomicInteger(1_000_000);
+    private final List<Sent> sent = new ArrayList<>();
+    private final List<Integer> released = new ArrayList<>();
+
+    @Override
+    public int allocate(VirtualGameEntity entity) {
+        return getNextId().getAndIncrement();
+    }
+
+    @Override
+    public void spawn(Player viewer, VirtualGameEntity entity) {
+        getSent().add(new Sent(Action.SPAWN, viewer, entity.getEntityId()));
+    }
+
+    @Override
+    public void teleport(Player viewer, VirtualGameEntity entity) {
+        getSent().add(new Sent(Action.TELEPORT, viewer, entity.getEntityId()));
+    }
+
+    @Override
+    public void destroy(Player viewer, int entityId) {
+        getSent().add(new Sent(Action.DESTROY, viewer, entityId));
+    }
+
+    @Override
+    public void release(int entityId) {
+        getReleased().add(entityId);
+    }
+
+    public long count(Action action, Player viewer) {
+        return getSent().stream().filter(sent -> sent.getAction() == action && sent.getViewer().equals(viewer)).count();
+    }
+
+    public enum Action {
+        SPAWN, TELEPORT, DESTROY
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Sent {
+
+        private final Action action;
+        private final Player viewer;
+        private final int entityId;
+
+    }
+
+}
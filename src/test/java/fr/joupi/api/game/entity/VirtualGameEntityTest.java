@@ -0,0 +1,128 @@
+package fr.joupi.api.game.entity;
+
+import fr.joupi.api.MultiThreading;
+import fr.joupi.api.TestBukkit;
+import fr.joupi.api.game.event.VirtualEntityInteractEvent;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualGameEntityTest {
+
+    private RecordingPacketSink sink;
+    private TestEntity entity;
+
+    private Player alice, bob;
+
+    @BeforeEach
+    void setUp() {
+        TestBukkit.start();
+        sink = new RecordingPacketSink();
+        entity = new TestEntity();
+        entity.setSink(sink);
+        entity.allocate();
+
+        alice = TestBukkit.player("alice");
+        bob = TestBukkit.player("bob");
+    }
+
+    @AfterEach
+    void tearDown() {
+        VirtualEntityInterceptor.unregister(entity);
+    }
+
+    @Test
+    void showSpawnsOncePerViewer() {
+        entity.show(alice);
+        entity.show(alice);
+        entity.show(bob);
+
+        assertTrue(entity.isViewer(alice));
+        assertTrue(entity.isViewer(bob));
+        assertEquals(2, entity.getViewers().size());
+        assertEquals(1, sink.count(RecordingPacketSink.Action.SPAWN, alice));
+        assertEquals(1, sink.count(RecordingPacketSink.Action.SPAWN, bob));
+    }
+
+    @Test
+    void hideDestroysOnlyForViewers() {
+        entity.show(alice);
+        entity.hide(alice);
+        entity.hide(alice);
+        entity.hide(bob);
+
+        assertFalse(entity.isViewer(alice));
+        assertTrue(entity.getViewers().isEmpty());
+        assertEquals(1, sink.count(RecordingPacketSink.Action.DESTROY, alice));
+        assertEquals(0, sink.count(RecordingPacketSink.Action.DESTROY, bob));
+        assertEquals(entity.getEntityId(), sink.getSent().get(1).getEntityId());
+    }
+
+    @Test
+    void allocateRegistersEntityId() {
+        int entityId = entity.getEntityId();
+
+        assertNotEquals(-1, entityId);
+        assertSame(entity, VirtualEntityInterceptor.getEntity(entityId).orElse(null));
+
+        entity.allocate();
+        assertEquals(entityId, entity.getEntityId());
+    }
+
+    @Test
+    void routesInteractionToViewer() {
+        entity.show(alice);
+
+        assertTrue(VirtualEntityInterceptor.route(entity.getEntityId(), alice, true));
+        assertTrue(entity.getInteractions().isEmpty());
+
+        MultiThreading.mainThread.drain();
+
+        assertEquals(1, entity.getInteractions().size());
+        assertSame(alice, entity.getInteractions().get(0).getPlayer());
+        assertTrue(entity.getInteractions().get(0).isAttack());
+    }
+
+    @Test
+    void passesOnInteractionFromNonViewer() {
+        entity.show(alice);
+
+        assertFalse(VirtualEntityInterceptor.route(entity.getEntityId(), bob, false));
+        MultiThreading.mainThread.drain();
+
+        assertTrue(entity.getInteractions().isEmpty());
+    }
+
+    @Test
+    void unknownEntityIdIsNotConsumed() {
+        assertFalse(VirtualEntityInterceptor.route(entity.getEntityId() + 1, alice, false));
+    }
+
+    private static class TestEntity extends VirtualGameEntity {
+
+        private final List<VirtualEntityInteractEvent> interactions = new ArrayList<>();
+
+        TestEntity() {
+            super("&atest", EntityType.ZOMBIE, null);
+        }
+
+        @Override
+        public Consumer<VirtualEntityInteractEvent> interactEvent() {
+            return interactions::add;
+        }
+
+        List<VirtualEntityInteractEvent> getInteractions() {
+            return interactions;
+        }
+
+    }
+
+}
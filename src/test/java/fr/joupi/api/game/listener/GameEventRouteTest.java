@@ -0,0 +1,124 @@
+package fr.joupi.api.game.listener;
+
+import fr.joupi.api.TestBukkit;
+import fr.joupi.api.game.GameManager;
+import fr.joupi.api.game.TestGame;
+import fr.joupi.api.game.phase.AbstractGamePhase;
+import fr.joupi.api.game.utils.GameSizeTemplate;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventRouteTest {
+
+    private GameManager gameManager;
+
+    @BeforeEach
+    void setUp() {
+        TestBukkit.start();
+        gameManager = new GameManager(null);
+    }
+
+    @Test
+    void resolvesPhasesWithoutExtractorToOwningGame() {
+        List<TestPhase> phases = IntStream.range(0, 100).mapToObj(i -> createPhase("game" + i)).collect(Collectors.toList());
+        GameEventRoute<TestPlayerEvent> route = getRoute();
+
+        route.execute(gameManager.getEventDispatcher(), new TestPlayerEvent(phases.get(42).getPlayer()));
+
+        assertTrue(route.getGlobals().isEmpty());
+        assertEquals(1, route.getExtractorCount(GameEventScope.PLAYER));
+        IntStream.range(0, phases.size()).forEach(i -> assertEquals(i == 42 ? 1 : 0, phases.get(i).getReceived().size(), "phase" + i));
+    }
+
+    @Test
+    void sharesStatelessExtractors() {
+        List<TestPhase> phases = IntStream.range(0, 100).mapToObj(i -> createPhase("game" + i)).collect(Collectors.toList());
+        phases.forEach(phase -> phase.registerEvent(TestPlayerEvent.class, TestPlayerEvent::getPlayer, event -> {}));
+
+        assertEquals(2, getRoute().getExtractorCount(GameEventScope.PLAYER));
+
+        phases.forEach(AbstractGamePhase::unregister);
+        assertEquals(0, getRoute().getExtractorCount(GameEventScope.PLAYER));
+    }
+
+    @Test
+    void runsGlobalSubscriptionsForEveryEvent() {
+        TestPhase phase = createPhase("global");
+        List<TestPlayerEvent> received = new ArrayList<>();
+
+        phase.registerGlobalEvent(TestPlayerEvent.class, received::add);
+        getRoute().execute(gameManager.getEventDispatcher(), new TestPlayerEvent(TestBukkit.player("outsider")));
+
+        assertEquals(1, received.size());
+        assertTrue(phase.getReceived().isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private GameEventRoute<TestPlayerEvent> getRoute() {
+        return (GameEventRoute<TestPlayerEvent>) gameManager.getEventDispatcher().getRoutes().get(TestPlayerEvent.class);
+    }
+
+    private TestPhase createPhase(String name) {
+        TestGame game = new TestGame(GameSizeTemplate.SIZE_2V2.getGameSize());
+        Player player = TestBukkit.player(name);
+
+        gameManager.addGame("test", game);
+        gameManager.joinGame(game, player);
+
+        TestPhase phase = new TestPhase(game, player);
+        phase.onStart();
+        return phase;
+    }
+
+    private static class TestPhase extends AbstractGamePhase<TestGame> {
+
+        private final Player player;
+        private final List<TestPlayerEvent> received = new ArrayList<>();
+
+        TestPhase(TestGame game, Player player) {
+            super(game);
+            this.player = player;
+        }
+
+        @Override
+        public void onStart() {
+            registerEvent(TestPlayerEvent.class, received::add);
+        }
+
+        @Override
+        public void onEnd() {}
+
+        Player getPlayer() {
+            return player;
+        }
+
+        List<TestPlayerEvent> getReceived() {
+            return received;
+        }
+
+    }
+
+    private static class TestPlayerEvent extends PlayerEvent {
+
+        TestPlayerEvent(Player player) {
+            super(player);
+        }
+
+        @Override
+        public HandlerList getHandlers() {
+            return new HandlerList();
+        }
+
+    }
+
+}
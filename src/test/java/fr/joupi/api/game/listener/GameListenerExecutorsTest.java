@@ -0,0 +1,123 @@
+package fr.joupi.api.game.listener;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameListenerExecutorsTest {
+
+    @Test
+    void findsAnnotatedHandlers() {
+        List<GameListenerExecutors.HandlerMethod> handlers = GameListenerExecutors.getHandlers(TestListener.class);
+
+        assertEquals(1, handlers.size());
+        assertEquals(TestEvent.class, handlers.get(0).getEventClass());
+        assertEquals(EventPriority.HIGH, handlers.get(0).getPriority());
+        assertTrue(handlers.get(0).isIgnoreCancelled());
+    }
+
+    @Test
+    void executorInvokesHandler() throws EventException {
+        TestListener listener = new TestListener();
+        GameListenerExecutors.HandlerMethod handler = GameListenerExecutors.getHandlers(TestListener.class).get(0);
+
+        handler.getExecutor().execute(listener, new TestEvent());
+        handler.getExecutor().execute(listener, new OtherEvent());
+
+        assertEquals(1, listener.calls);
+    }
+
+    @Test
+    void executorWrapsHandlerFailures() {
+        TestListener listener = new TestListener();
+        TestEvent event = new TestEvent();
+        event.fail = true;
+
+        EventException exception = assertThrows(EventException.class, () -> GameListenerExecutors.getHandlers(TestListener.class).get(0).getExecutor().execute(listener, event));
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void generatesInvokerInListenerClass() throws NoSuchMethodException {
+        BiConsumer<Object, Object> invoker = GameListenerExecutors.createInvoker(handlerMethod(), true);
+        TestListener listener = new TestListener();
+
+        invoker.accept(listener, new TestEvent());
+
+        assertEquals(1, listener.calls);
+        assertTrue(invoker.getClass().getName().startsWith(TestListener.class.getName()));
+    }
+
+    @Test
+    void fallsBackToInvokeExact() throws NoSuchMethodException {
+        BiConsumer<Object, Object> invoker = GameListenerExecutors.createInvoker(handlerMethod(), false);
+        TestListener listener = new TestListener();
+
+        invoker.accept(listener, new TestEvent());
+        invoker.accept(listener, new TestEvent());
+
+        assertEquals(2, listener.calls);
+        assertTrue(invoker.getClass().getName().startsWith(GameListenerExecutors.class.getName()));
+
+        TestEvent event = new TestEvent();
+        event.fail = true;
+        assertThrows(IllegalStateException.class, () -> invoker.accept(listener, event));
+    }
+
+    private static Method handlerMethod() throws NoSuchMethodException {
+        return TestListener.class.getDeclaredMethod("onTest", TestEvent.class);
+    }
+
+    static class TestListener implements Listener {
+
+        private int calls;
+
+        @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+        void onTest(TestEvent event) {
+            if (event.fail)
+                throw new IllegalStateException("failed");
+
+            calls++;
+        }
+
+        void notAHandler(TestEvent event) {
+            calls += 100;
+        }
+
+    }
+
+    static class TestEvent extends Event {
+
+        private static final HandlerList handlers = new HandlerList();
+
+        private boolean fail;
+
+        @Override
+        public HandlerList getHandlers() {
+            return handlers;
+        }
+
+    }
+
+    static class OtherEvent extends Event {
+
+        private static final HandlerList handlers = new HandlerList();
+
+        @Override
+        public HandlerList getHandlers() {
+            return handlers;
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package fr.joupi.api.game.matchmaking;
+
+import fr.joupi.api.TestBukkit;
+import fr.joupi.api.game.Game;
+import fr.joupi.api.game.GameManager;
+import fr.joupi.api.game.GameState;
+import fr.joupi.api.game.TestGame;
+import fr.joupi.api.game.party.GameParty;
+import fr.joupi.api.game.utils.GameSizeTemplate;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchmakingEngineTest {
+
+    private GameManager gameManager;
+    private MatchmakingEngine engine;
+    private TestGame first, second;
+
+    @BeforeEach
+    void setUp() {
+        TestBukkit.start();
+        gameManager = new GameManager(null);
+        engine = gameManager.getMatchmakingEngine();
+        engine.setJoinBudget(0);
+        first = createGame();
+        second = createGame();
+    }
+
+    @Test
+    void ordersSlotsByReservedCapacity() {
+        List<Player> party = createParty("alpha", 3);
+        engine.submit(party.get(0), "test");
+        engine.tick();
+
+        Game<?, ?, ?> target = engine.getJoins().peek().getGame();
+        GameMatchmakingIndex index = gameManager.getMatchmakingIndex();
+
+        assertEquals(3, index.getReserved(target));
+        assertEquals(1, index.getEntries().get(target).getFreeSlots());
+
+        List<Player> other = createParty("beta", 3);
+        engine.submit(other.get(0), "test");
+        engine.tick();
+
+        assertNotSame(target, engine.getJoins().peekLast().getGame());
+        assertEquals(6, engine.getJoins().size());
+    }
+
+    @Test
+    void requeuesWholeRequest() {
+        List<Player> party = createParty("gamma", 3);
+        engine.submit(party.get(0), "test");
+        engine.tick();
+
+        Game<?, ?, ?> target = engine.getJoins().peek().getGame();
+        engine.setJoinBudget(1);
+        engine.tick();
+        assertTrue(target.containsPlayer(party.get(0).getUniqueId()));
+
+        target.setState(GameState.IN_GAME);
+        engine.tick();
+
+        assertTrue(engine.getJoins().isEmpty());
+        assertEquals(0, gameManager.getMatchmakingIndex().getReserved(target));
+        assertEquals(1, engine.getIntake().size());
+        assertEquals(party.subList(1, 3).stream().map(Player::getUniqueId).collect(Collectors.toSet()), engine.getIntake().peek().getPlayers().stream().collect(Collectors.toSet()));
+
+        engine.setJoinBudget(10);
+        engine.tick();
+
+        Game<?, ?, ?> fallback = target == first ? second : first;
+        party.subList(1, 3).forEach(player -> assertTrue(fallback.containsPlayer(player.getUniqueId())));
+    }
+
+    private TestGame createGame() {
+        TestGame game = new TestGame(GameSizeTemplate.SIZE_2V2.getGameSize());
+        gameManager.addGame("test", game);
+        return game;
+    }
+
+    private List<Player> createParty(String prefix, int size) {
+        List<Player> players = IntStream.range(0, size).mapToObj(i -> TestBukkit.player(prefix + i)).collect(Collectors.toList());
+        GameParty gameParty = new GameParty(players.get(0).getUniqueId());
+        gameParty.setOpened(true);
+        gameManager.getPartyManager().addParty(gameParty);
+        players.stream().skip(1).forEach(player -> gameManager.getPartyManager().joinParty(player, gameParty));
+        return players;
+    }
+
+}
@@ -0,0 +1,82 @@
+package fr.joupi.api.game.spatial;
+
+import fr.joupi.api.TestBukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialGridTest {
+
+    private World world, nether;
+    private SpatialGrid<NamedLocation> grid;
+    private List<NamedLocation> locations;
+
+    @BeforeEach
+    void setUp() {
+        world = TestBukkit.world("world");
+        nether = TestBukkit.world("nether");
+        grid = new SpatialGrid<>();
+
+        Random random = new Random(7);
+        locations = IntStream.range(0, 500)
+                .mapToObj(i -> new NamedLocation(i % 3 == 0 ? "spawn" : "chest", new Location(world, random.nextInt(2000) - 1000, random.nextInt(100), random.nextInt(2000) - 1000)))
+                .collect(Collectors.toList());
+        locations.forEach(location -> grid.update(location, location.getLocation()));
+    }
+
+    @Test
+    void nearestMatchesLinearScan() {
+        Random random = new Random(11);
+
+        for (int i = 0; i < 100; i++) {
+            Location center = new Location(world, random.nextInt(4000) - 2000, 50, random.nextInt(4000) - 2000);
+            List<NamedLocation> expected = locations.stream()
+                    .sorted(Comparator.comparingDouble(location -> location.getLocation().distanceSquared(center)))
+                    .limit(5)
+                    .collect(Collectors.toList());
+
+            assertEquals(expected, grid.getNearest(center, 5));
+        }
+    }
+
+    @Test
+    void nearestAppliesFilter() {
+        Location center = new Location(world, 3, 10, -8);
+        NamedLocation expected = locations.stream()
+                .filter(location -> location.getName().equals("spawn"))
+                .min(Comparator.comparingDouble(location -> location.getLocation().distanceSquared(center)))
+                .orElse(null);
+
+        assertEquals(expected, grid.getNearest(center, 1, location -> location.getName().equals("spawn")).get(0));
+        assertTrue(grid.getNearest(center, 1, location -> location.getName().equals("missing")).isEmpty());
+    }
+
+    @Test
+    void nearestIgnoresOtherWorlds() {
+        assertTrue(grid.getNearest(new Location(nether, 0, 0, 0), 3).isEmpty());
+    }
+
+    @Test
+    void boxMatchesLinearScan() {
+        Location min = new Location(world, -200, 20, 300), max = new Location(world, 150, 80, -50);
+        List<NamedLocation> expected = locations.stream().filter(location -> {
+            Location point = location.getLocation();
+            return point.getX() >= -200 && point.getX() <= 150 && point.getY() >= 20 && point.getY() <= 80 && point.getZ() >= -50 && point.getZ() <= 300;
+        }).collect(Collectors.toList());
+
+        List<NamedLocation> result = grid.getInBox(min, max);
+
+        assertEquals(expected.size(), result.size());
+        assertTrue(result.containsAll(expected));
+    }
+
+}
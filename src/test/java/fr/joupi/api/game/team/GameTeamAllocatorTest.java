@@ -0,0 +1,149 @@
+package fr.joupi.api.game.team;
+
+import fr.joupi.api.TestBukkit;
+import fr.joupi.api.game.GameManager;
+import fr.joupi.api.game.GameSize;
+import fr.joupi.api.game.TestGame;
+import fr.joupi.api.game.party.GameParty;
+import fr.joupi.api.game.party.GamePartyManager;
+import fr.joupi.api.game.utils.GameSizeTemplate;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameTeamAllocatorTest {
+
+    private GameManager gameManager;
+
+    @BeforeEach
+    void setUp() {
+        TestBukkit.start();
+        gameManager = new GameManager(null);
+    }
+
+    @Test
+    void keepsPartiesTogether() {
+        TestGame game = createGame(GameSizeTemplate.SIZE_5V5.getGameSize());
+        List<Player> players = createPlayers("party", 10);
+
+        createParty(players.subList(0, 3));
+        createParty(players.subList(3, 5));
+        players.forEach(game::joinGame);
+        game.fillTeam();
+
+        assertTrue(game.getPlayersWithoutTeam().isEmpty());
+        assertSameTeam(game, players.subList(0, 3));
+        assertSameTeam(game, players.subList(3, 5));
+        game.getTeams().forEach(team -> assertEquals(5, team.getSize()));
+    }
+
+    @Test
+    void balancesLargeLayout() {
+        TestGame game = createGame(new GameSize("500vs500", 2, 1000, 2, 500));
+        List<Player> players = createPlayers("load", 1000);
+
+        IntStream.range(0, 100).forEach(i -> createParty(players.subList(i * 4, i * 4 + 4)));
+        players.forEach(game::joinGame);
+        game.fillTeam();
+
+        assertTrue(game.getPlayersWithoutTeam().isEmpty());
+        game.getTeams().forEach(team -> assertEquals(500, team.getSize()));
+        IntStream.range(0, 100).forEach(i -> assertSameTeam(game, players.subList(i * 4, i * 4 + 4)));
+    }
+
+    @Test
+    void allocatesLargeFreeForAll() {
+        TestGame game = createGame(new GameSize("ffa", 2, 1000, 1000, 1));
+        List<Player> players = createPlayers("ffa", 1000);
+
+        IntStream.range(0, 50).forEach(i -> createParty(players.subList(i * 2, i * 2 + 2)));
+        players.forEach(game::joinGame);
+
+        assertEquals(1000, game.getTeams().size());
+        assertTimeout(Duration.ofMillis(500), game::fillTeam);
+
+        assertTrue(game.getPlayersWithoutTeam().isEmpty());
+        game.getTeams().forEach(team -> assertEquals(1, team.getSize()));
+    }
+
+    @Test
+    void splitsPartyOnlyWhenNoTeamHasRoom() {
+        TestGame game = createGame(GameSizeTemplate.SIZE_5V5.getGameSize());
+        List<Player> players = createPlayers("split", 10);
+
+        createParty(players.subList(0, 3));
+        createParty(players.subList(3, 6));
+        createParty(players.subList(6, 8));
+        players.forEach(game::joinGame);
+        game.fillTeam();
+
+        assertSameTeam(game, players.subList(6, 8));
+        assertTrue(game.getPlayersWithoutTeam().isEmpty());
+
+        TestGame full = createGame(GameSizeTemplate.SIZE_5V5.getGameSize());
+        List<Player> others = createPlayers("full", 10);
+
+        createParty(others.subList(0, 4));
+        createParty(others.subList(4, 8));
+        createParty(others.subList(8, 10));
+        others.forEach(full::joinGame);
+        full.fillTeam();
+
+        assertSameTeam(full, others.subList(0, 4));
+        assertSameTeam(full, others.subList(4, 8));
+        assertTrue(full.getPlayersWithoutTeam().isEmpty());
+        full.getTeams().forEach(team -> assertEquals(5, team.getSize()));
+    }
+
+    @Test
+    void followsPartyChanges() {
+        GamePartyManager partyManager = gameManager.getPartyManager();
+        List<Player> players = createPlayers("member", 3);
+        GameParty gameParty = createParty(players.subList(0, 2));
+
+        assertSame(gameParty, partyManager.getParty(players.get(1)).orElse(null));
+
+        partyManager.leaveParty(players.get(1));
+        assertFalse(partyManager.getParty(players.get(1)).isPresent());
+
+        partyManager.joinParty(players.get(2), gameParty);
+        assertSame(gameParty, partyManager.getParty(players.get(2)).orElse(null));
+
+        partyManager.removeParty(gameParty);
+        assertFalse(partyManager.isInParty(players.get(0)));
+        assertFalse(partyManager.isInParty(players.get(2)));
+    }
+
+    private TestGame createGame(GameSize gameSize) {
+        TestGame game = new TestGame(gameSize);
+        game.setGameManager(gameManager);
+        return game;
+    }
+
+    private List<Player> createPlayers(String prefix, int amount) {
+        return IntStream.range(0, amount).mapToObj(i -> TestBukkit.player(prefix + i)).collect(Collectors.toList());
+    }
+
+    private GameParty createParty(List<Player> players) {
+        GameParty gameParty = new GameParty(players.get(0).getUniqueId());
+        gameParty.setOpened(true);
+        gameManager.getPartyManager().addParty(gameParty);
+        players.stream().skip(1).forEach(player -> gameManager.getPartyManager().joinParty(player, gameParty));
+        return gameParty;
+    }
+
+    private void assertSameTeam(TestGame game, List<Player> players) {
+        List<GameTeam> teams = players.stream().map(player -> game.getTeam(player.getUniqueId()).orElse(null)).distinct().collect(Collectors.toList());
+
+        assertEquals(1, teams.size());
+        assertNotNull(teams.get(0));
+    }
+
+}